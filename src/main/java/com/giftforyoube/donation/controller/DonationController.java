@@ -74,13 +74,8 @@ public class DonationController {
             String sponsorNickname = (String) session.getAttribute("sponsorNickname");
             String sponsorComment = (String) session.getAttribute("sponsorComment");
 
+            // 후원 결제 승인 시 알림은 커밋 이후 후처리 파이프라인에서 발송
             donationService.approveDonation(tid, pgToken, sponsorNickname, sponsorComment, fundingId, userDetails);
-            // 후원 결제 승인 시 알람 발송
-            try {
-                donationService.sendDonationNotification(sponsorNickname, fundingId);
-            } catch (Exception e) {
-                log.error("SSE 알림 error: ", e);
-            }
             return ResponseEntity.status(HttpStatus.OK)
                     .body(new BaseResponse<>(BaseResponseStatus.DONATION_APPROVE_SUCCESS, fundingId));
         } catch (Exception e) {
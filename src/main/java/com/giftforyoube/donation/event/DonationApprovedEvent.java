@@ -0,0 +1,16 @@
+package com.giftforyoube.donation.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 후원이 DB에 저장되고 커밋된 이후 후처리(통계, 캐시, 알림)를 위해 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class DonationApprovedEvent {
+    private final Long fundingId;
+    private final Long fundingOwnerId;
+    private final int donationAmount;
+    private final boolean fundingFinished;
+}
@@ -0,0 +1,98 @@
+package com.giftforyoube.donation.event;
+
+import com.giftforyoube.funding.service.CacheService;
+import com.giftforyoube.funding.service.FundingSummaryCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 후원 승인 후처리 파이프라인
+ * 후원 저장 트랜잭션이 커밋된 이후 donationTaskExecutor에서 통계 갱신 → 캐시 무효화 순으로 실행합니다.
+ * 알림은 후원 저장과 같은 트랜잭션으로 아웃박스에 기록되어 NotificationOutboxRelay가 발송합니다.
+ * 각 단계는 독립적으로 재시도되며, 한 단계가 최종 실패해도 다음 단계는 계속 진행합니다.
+ * 재시도는 at-least-once이므로 실패 직전에 일부 반영된 단계는 중복 반영될 수 있습니다.
+ */
+@Slf4j
+@Component
+public class DonationApprovedEventListener {
+
+    private final FundingSummaryCounter fundingSummaryCounter;
+    private final CacheService cacheService;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public DonationApprovedEventListener(FundingSummaryCounter fundingSummaryCounter,
+                                         CacheService cacheService,
+                                         @Value("${donation.pipeline.max-attempts:3}") int maxAttempts,
+                                         @Value("${donation.pipeline.backoff-millis:200}") long backoffMillis) {
+        this.fundingSummaryCounter = fundingSummaryCounter;
+        this.cacheService = cacheService;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    @Async("donationTaskExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(DonationApprovedEvent event) {
+        Long fundingId = event.getFundingId();
+
+        // 1. 통계 업데이트
+        runStage("statistics", fundingId, () -> {
+            fundingSummaryCounter.increaseDonation(event.getDonationAmount());
+            if (event.isFundingFinished()) {
+                fundingSummaryCounter.increaseSuccessfulFunding();
+            }
+        });
+
+        // 2. 캐시 무효화 - 펀딩이 종료되면 진행중/종료 목록 구성이 바뀌므로 전체 무효화, 그 외에는 해당 펀딩 관련 캐시와 후원 금액순 목록만 삭제
+        runStage("cache", fundingId, () -> {
+            if (event.isFundingFinished()) {
+                cacheService.clearFundingCaches();
+            } else {
+                cacheService.evictFundingCaches(fundingId, event.getFundingOwnerId());
+            }
+        });
+    }
+
+    /**
+     * 단계를 실행하고 실패 시 지수 백오프로 재시도합니다.
+     *
+     * @param stageName 로그에 남길 단계 이름
+     * @param fundingId 펀딩 ID
+     * @param stage 실행할 단계
+     */
+    private void runStage(String stageName, Long fundingId, Runnable stage) {
+        long delay = backoffMillis;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                stage.run();
+                return;
+            } catch (RuntimeException e) {
+                if (attempt == maxAttempts) {
+                    log.error("[DonationPipeline] {} 단계 최종 실패 (fundingId={})", stageName, fundingId, e);
+                    return;
+                }
+                log.warn("[DonationPipeline] {} 단계 실패, {}ms 후 재시도 ({}/{}) (fundingId={}): {}",
+                        stageName, delay, attempt, maxAttempts, fundingId, e.getMessage());
+                if (!sleep(delay)) {
+                    return;
+                }
+                delay *= 2;
+            }
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -2,12 +2,16 @@ package com.giftforyoube.donation.repository;
 
 import com.giftforyoube.donation.entity.Donation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface DonationRepository extends JpaRepository<Donation, Long> {
 
-    List<Donation> findByFundingIdOrderByDonationRankingDesc(Long fundingId);
-
     List<Donation> findByFundingId(Long fundingId);
-}
\ No newline at end of file
+
+    // 후원 랭킹 시퀀스 초기화용 - 펀딩의 마지막 후원 랭킹 (후원이 없으면 0)
+    @Query("SELECT COALESCE(MAX(d.donationRanking), 0) FROM Donation d WHERE d.funding.id = :fundingId")
+    int findMaxDonationRankingByFundingId(@Param("fundingId") Long fundingId);
+}
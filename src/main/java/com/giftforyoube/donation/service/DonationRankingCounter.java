@@ -0,0 +1,70 @@
+package com.giftforyoube.donation.service;
+
+import com.giftforyoube.donation.repository.DonationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 펀딩별 후원 랭킹을 Redis INCR 시퀀스로 발급합니다.
+ * 후원 목록 전체를 조회해 마지막 랭킹을 읽는 대신 O(1)로 랭킹을 발급하고,
+ * INCR은 원자적이므로 동시에 승인된 후원자도 서로 다른 랭킹을 받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DonationRankingCounter {
+
+    private static final String DONATION_RANKING_KEY_PREFIX = "donationRanking:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DonationRepository donationRepository;
+
+    /**
+     * 다음 후원 랭킹을 발급합니다.
+     *
+     * @param fundingId 펀딩 ID
+     * @return 발급된 후원 랭킹
+     */
+    public int nextRanking(Long fundingId) {
+        String key = buildKey(fundingId);
+        initializeIfAbsent(key, fundingId);
+        Long ranking = redisTemplate.opsForValue().increment(key);
+        return ranking.intValue();
+    }
+
+    /**
+     * 랭킹을 발급하지 않고 다음 후원자가 받게 될 랭킹을 조회합니다.
+     *
+     * @param fundingId 펀딩 ID
+     * @return 다음 후원 랭킹
+     */
+    public int peekNextRanking(Long fundingId) {
+        String key = buildKey(fundingId);
+        String lastRanking = redisTemplate.opsForValue().get(key);
+        if (lastRanking == null) {
+            return donationRepository.findMaxDonationRankingByFundingId(fundingId) + 1;
+        }
+        return Integer.parseInt(lastRanking) + 1;
+    }
+
+    /**
+     * 시퀀스가 없다면 DB에 저장된 마지막 랭킹으로 초기화합니다.
+     * 여러 요청이 동시에 초기화해도 SETNX로 한 번만 설정됩니다.
+     */
+    private void initializeIfAbsent(String key, Long fundingId) {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return;
+        }
+        int lastRanking = donationRepository.findMaxDonationRankingByFundingId(fundingId);
+        Boolean initialized = redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(lastRanking));
+        if (Boolean.TRUE.equals(initialized)) {
+            log.info("[DonationRankingCounter] 후원 랭킹 시퀀스 초기화: {} = {}", key, lastRanking);
+        }
+    }
+
+    private String buildKey(Long fundingId) {
+        return DONATION_RANKING_KEY_PREFIX + fundingId;
+    }
+}
@@ -3,27 +3,26 @@ package com.giftforyoube.donation.service;
 import com.giftforyoube.donation.dto.ApproveDonationResponseDto;
 import com.giftforyoube.donation.dto.ReadyDonationDto;
 import com.giftforyoube.donation.entity.Donation;
+import com.giftforyoube.donation.event.DonationApprovedEvent;
 import com.giftforyoube.donation.repository.DonationRepository;
 import com.giftforyoube.funding.entity.Funding;
-import com.giftforyoube.funding.entity.FundingStatus;
-import com.giftforyoube.funding.entity.FundingSummary;
 import com.giftforyoube.funding.repository.FundingRepository;
-import com.giftforyoube.funding.repository.FundingSummaryRepository;
-import com.giftforyoube.funding.service.CacheService;
 import com.giftforyoube.global.exception.BaseException;
 import com.giftforyoube.global.exception.BaseResponseStatus;
 import com.giftforyoube.global.security.UserDetailsImpl;
 import com.giftforyoube.notification.entity.NotificationType;
-import com.giftforyoube.notification.service.NotificationService;
+import com.giftforyoube.notification.service.NotificationOutboxService;
 import com.giftforyoube.user.entity.User;
 import com.giftforyoube.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -41,9 +40,10 @@ public class DonationService {
     private final DonationRepository donationRepository;
     private final UserRepository userRepository;
     private final FundingRepository fundingRepository;
-    private final FundingSummaryRepository fundingSummaryRepository;
-    private final NotificationService notificationService;
-    private final CacheService cacheService;
+    private final DonationRankingCounter donationRankingCounter;
+    private final NotificationOutboxService notificationOutboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${kakaopay.cid}")
     private String cid;
@@ -63,7 +63,7 @@ public class DonationService {
      * @return 후원 랭킹
      */
     public int getDonationRanking(Long fundingId) {
-        return calculateDonationRanking(fundingId);
+        return donationRankingCounter.peekNextRanking(fundingId);
     }
 
     /**
@@ -125,13 +125,15 @@ public class DonationService {
                 restTemplate.exchange(requestEntity, ApproveDonationResponseDto.class);
         ApproveDonationResponseDto approveDonationResponseDto = responseEntity.getBody();
 
-        saveDonationInfo(sponsorNickname, sponsorComment,
-                approveDonationResponseDto.getAmount().getTotal(), fundingId, userDetails);
+        // 후원 저장까지만 요청 스레드에서 처리하고, 통계/캐시/알림은 커밋 이후 비동기 파이프라인에서 처리
+        transactionTemplate.executeWithoutResult(status -> saveDonationInfo(sponsorNickname, sponsorComment,
+                approveDonationResponseDto.getAmount().getTotal(), fundingId, userDetails));
         log.info("[approveDonation] 후원 결제 승인 완료");
     }
 
     /**
-     * 3. 후원 정보 저장 및 관련 처리 진행
+     * 3. 후원 정보 저장 및 후처리 이벤트 발행
+     * 트랜잭션 안에서 호출되며, 발행된 이벤트는 커밋 이후 DonationApprovedEventListener가 처리합니다.
      *
      * @param sponsorNickname 후원자 닉네임
      * @param sponsorComment 후원자 코멘트
@@ -157,40 +159,32 @@ public class DonationService {
                 .sponsorNickname(sponsorNickname)
                 .sponsorComment(sponsorComment)
                 .donationAmount(donationAmount)
-                .donationRanking(calculateDonationRanking(fundingId))
+                .donationRanking(donationRankingCounter.nextRanking(fundingId))
                 .funding(funding)
                 .user(user)
                 .build();
         donationRepository.save(donation);
+        // 벌크 UPDATE가 영속성 컨텍스트를 비우므로 (flush 후 clear) 이후 필요한 값은 미리 읽어둠
+        Long ownerId = funding.getUser().getId();
 
-        // 후원 누적 금액 업데이트
-        int currentAmount = funding.getCurrentAmount() + donationAmount;
-        funding.setCurrentAmount(currentAmount);
-        fundingRepository.save(funding);
+        // 후원 누적 금액 업데이트 - 엔티티를 읽고 저장하는 대신 DB에서 원자적으로 증가
+        fundingRepository.increaseCurrentAmount(fundingId, donationAmount);
 
-        // 펀딩 상태에 따라 통계 업데이트 및 알림 발송
-        if (funding.getStatus().equals(FundingStatus.FINISHED)) {
-            updateStatisticsForSuccessfulFunding();
-            sendSuccessfulNotification(fundingId);
-        }
-        updateStatisticsForNewDonation(donationAmount);
-        cacheService.clearFundingCaches();
-    }
+        // 목표 금액 도달 시 종료 전환 - 조건부 UPDATE가 성공한 한 건의 후원에서만 성공 처리
+        boolean finished = fundingRepository.finishIfTargetReached(fundingId) == 1;
 
-    /**
-     * 4. 후원 랭킹 계산
-     *
-     * @param fundingId 펀딩 ID
-     * @return 후원 랭킹
-     */
-    private int calculateDonationRanking(Long fundingId) {
-        List<Donation> donations = donationRepository.findByFundingIdOrderByDonationRankingDesc(fundingId);
-        if (donations.isEmpty()) {
-            return 1;
-        } else {
-            int lastDonationRanking = donations.get(0).getDonationRanking();
-            return lastDonationRanking + 1;
+        // 알림은 후원 저장과 같은 트랜잭션으로 아웃박스에 기록하고, NotificationOutboxRelay가 발송
+        String url = "https://www.giftipie.me/fundingdetail/" + fundingId;
+        notificationOutboxService.enqueue(ownerId, NotificationType.DONATION,
+                String.format("회원님 펀딩에 %s 님이 후원하셨습니다!", sponsorNickname), url);
+        if (finished) {
+            notificationOutboxService.enqueue(ownerId, NotificationType.FUNDING_SUCCESS,
+                    "회원님의 선물펀딩이 목표금액에 달성되어 마감되었습니다!", url);
         }
+
+        // 통계 업데이트, 캐시 무효화는 커밋 이후 처리
+        eventPublisher.publishEvent(new DonationApprovedEvent(
+                fundingId, ownerId, donationAmount, finished));
     }
 
     /**
@@ -268,59 +262,4 @@ public class DonationService {
     public List<Donation> getDonationsByFundingId(Long fundingId) {
         return donationRepository.findByFundingId(fundingId);
     }
-
-    /**
-     * 7-1. 후원 결제 승인 후 알림 메시지 발송
-     *
-     * @param sponsorNickname 후원자의 닉네임
-     * @param fundingId 후원이 발생한 펀딩의 ID
-     */
-    public void sendDonationNotification(String sponsorNickname, Long fundingId) {
-        // 후원 결제 승인 후 알림 발송
-        log.info("후원 결제 승인 후 알림 발송 시작");
-
-        User user = userRepository.findUserByFundingId(fundingId);
-        String content = String.format("회원님 펀딩에 %s 님이 후원하셨습니다!", sponsorNickname);
-        String url = "https://www.giftipie.me/fundingdetail/" + fundingId;
-        NotificationType notificationType = NotificationType.DONATION;
-        notificationService.send(user, notificationType, content, url);
-    }
-
-    /**
-     * 7-2. 펀딩 성공 시 알림 메시지 발송
-     *
-     * @param fundingId 펀딩의 ID
-     */
-    public void sendSuccessfulNotification(Long fundingId) {
-        // 펀딩 성공 시 알림 발송
-        log.info("펀딩 성공 시 알림 발송");
-
-        User user = userRepository.findUserByFundingId(fundingId);
-        String content = String.format("회원님의 선물펀딩이 목표금액에 달성되어 마감되었습니다!");
-        String url = "https://www.giftipie.me/fundingdetail/" + fundingId;
-        NotificationType notificationType = NotificationType.FUNDING_SUCCESS;
-        notificationService.send(user, notificationType, content, url);
-    }
-
-    /**
-     * 8-1. 후원 발생 시 통계 업데이트
-     *
-     * @param donationAmount 후원 금액
-     */
-    // 후원 발생시 summary 에 데이터 추가하는 메서드
-    private void updateStatisticsForNewDonation(int donationAmount) {
-        FundingSummary summary = fundingSummaryRepository.findFirstByOrderByIdAsc().orElse(new FundingSummary());
-        summary.setTotalDonationsCount(summary.getTotalDonationsCount() + 1);
-        summary.setTotalFundingAmount(summary.getTotalFundingAmount() + donationAmount);
-        fundingSummaryRepository.save(summary);
-    }
-
-    /**
-     * 8-2. 펀딩 성공 시 통계 업데이트
-     */
-    private void updateStatisticsForSuccessfulFunding() {
-        FundingSummary summary = fundingSummaryRepository.findFirstByOrderByIdAsc().orElse(new FundingSummary());
-        summary.setSuccessfulFundingsCount(summary.getSuccessfulFundingsCount() + 1);
-        fundingSummaryRepository.save(summary);
-    }
-}
\ No newline at end of file
+}
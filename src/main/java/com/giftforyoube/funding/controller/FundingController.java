@@ -102,11 +102,12 @@ public class FundingController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortOrder
+            @RequestParam(defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false) String cursor
     ){
         log.info("[getActiveFundings] 진행중인 펀딩 리스트 조회 무한스크롤");
 
-        Slice<FundingResponseDto> activeFundingsPage = fundingService.getActiveFundings(page, size, sortBy, sortOrder);
+        Slice<FundingResponseDto> activeFundingsPage = fundingService.getActiveFundings(page, size, sortBy, sortOrder, cursor);
         return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.ACTIVE_FUNDINGS_GET_SUCCESS, activeFundingsPage));
     }
 
@@ -116,10 +117,11 @@ public class FundingController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortOrder
+            @RequestParam(defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false) String cursor
     ){
         log.info("[getFinishedFundings] 완료된 펀딩 리스트 조회 무한스크롤");
-        Slice<FundingResponseDto> finishedFundingsPage = fundingService.getFinishedFundings(page, size, sortBy, sortBy);
+        Slice<FundingResponseDto> finishedFundingsPage = fundingService.getFinishedFundings(page, size, sortBy, sortOrder, cursor);
         return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.FINISHED_FUNDINGS_GET_SUCCESS, finishedFundingsPage));
     }
 
@@ -138,9 +140,8 @@ public class FundingController {
 
         // 여기에서는 isOwner 값을 동적으로 설정합니다.
         boolean isOwner = user != null && fundingResponseDto.getOwnerId().equals(user.getId());
-        fundingResponseDto.setIsOwner(isOwner);
 
-        return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.FUNDING_DETAIL_GET_SUCCESS, fundingResponseDto));
+        return ResponseEntity.ok(new BaseResponse<>(BaseResponseStatus.FUNDING_DETAIL_GET_SUCCESS, fundingResponseDto.withOwnerFlag(isOwner)));
     }
 
     // 펀딩 종료버튼 딸~깍
@@ -0,0 +1,68 @@
+package com.giftforyoube.funding.dto;
+
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 펀딩 목록 조회의 위치 정보 (마지막으로 조회한 행의 정렬 컬럼 값과 ID)
+ * 클라이언트에는 Base64로 인코딩한 불투명 토큰으로 전달됩니다.
+ */
+@Getter
+public class FundingCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final FundingSortField sortField;
+    private final Sort.Direction direction;
+    private final Comparable<?> value;
+    private final Long id;
+
+    public FundingCursor(FundingSortField sortField, Sort.Direction direction, Comparable<?> value, Long id) {
+        this.sortField = sortField;
+        this.direction = direction;
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * 조회된 마지막 행으로 다음 페이지의 커서를 생성합니다.
+     */
+    public static FundingCursor of(FundingSortField sortField, Sort.Direction direction, FundingListQueryDto last) {
+        return new FundingCursor(sortField, direction, sortField.valueOf(last), last.getId());
+    }
+
+    public String encode() {
+        String raw = sortField.name() + DELIMITER + direction.name() + DELIMITER + id + DELIMITER + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰을 해석합니다. 커서의 정렬 기준이 요청과 다르면 잘못된 커서로 판단합니다.
+     *
+     * @param token 커서 토큰
+     * @param sortField 요청의 정렬 기준
+     * @param direction 요청의 정렬 방향
+     * @return 해석된 커서
+     * @throws BaseException 형식이 잘못되었거나 정렬 기준이 다른 경우
+     */
+    public static FundingCursor decode(String token, FundingSortField sortField, Sort.Direction direction) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4
+                    || FundingSortField.valueOf(parts[0]) != sortField
+                    || Sort.Direction.valueOf(parts[1]) != direction) {
+                throw new BaseException(BaseResponseStatus.INVALID_FUNDING_CURSOR);
+            }
+            return new FundingCursor(sortField, direction, sortField.parse(parts[3]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BaseException(BaseResponseStatus.INVALID_FUNDING_CURSOR);
+        }
+    }
+}
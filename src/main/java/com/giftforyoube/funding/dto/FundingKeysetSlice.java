@@ -0,0 +1,23 @@
+package com.giftforyoube.funding.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * 커서 기반으로 조회한 펀딩 목록
+ * 기존 Slice 응답 형태를 유지하면서 다음 페이지 조회에 사용할 nextCursor를 함께 내려줍니다.
+ * 페이지 번호(number)는 조회 위치와 무관하게 클라이언트가 함께 보낸 page 값을 그대로 돌려줍니다.
+ */
+@Getter
+public class FundingKeysetSlice extends SliceImpl<FundingResponseDto> {
+
+    private final String nextCursor;
+
+    public FundingKeysetSlice(List<FundingResponseDto> content, int page, int size, String nextCursor) {
+        super(content, PageRequest.of(page, size), nextCursor != null);
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,45 @@
+package com.giftforyoube.funding.dto;
+
+import com.giftforyoube.funding.entity.FundingStatus;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 펀딩 목록 조회용 프로젝션 - FundingResponseDto에 필요한 컬럼만 조회하여 엔티티 생성, 영속성 컨텍스트 등록, 변경 감지를 생략
+@Getter
+public class FundingListQueryDto {
+    private final Long id;
+    private final String itemLink;
+    private final String itemImage;
+    private final String itemName;
+    private final String showName;
+    private final String title;
+    private final String content;
+    private final int currentAmount;
+    private final int targetAmount;
+    private final boolean publicFlag;
+    private final LocalDate endDate;
+    private final FundingStatus status;
+    private final Long ownerId;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public FundingListQueryDto(Long id, String itemLink, String itemImage, String itemName, String showName, String title, String content, int currentAmount, int targetAmount, boolean publicFlag, LocalDate endDate, FundingStatus status, Long ownerId, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.itemLink = itemLink;
+        this.itemImage = itemImage;
+        this.itemName = itemName;
+        this.showName = showName;
+        this.title = title;
+        this.content = content;
+        this.currentAmount = currentAmount;
+        this.targetAmount = targetAmount;
+        this.publicFlag = publicFlag;
+        this.endDate = endDate;
+        this.status = status;
+        this.ownerId = ownerId;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -0,0 +1,19 @@
+package com.giftforyoube.funding.dto;
+
+import lombok.Getter;
+
+// 펀딩 알림 수신자 조회용 프로젝션 - User 엔티티를 로딩하지 않고 알림에 필요한 컬럼만 조회
+@Getter
+public class FundingReceiverDto {
+    private final Long fundingId;
+    private final Long receiverId;
+    private final String email;
+    private final boolean emailNotificationAgreed;
+
+    public FundingReceiverDto(Long fundingId, Long receiverId, String email, Boolean emailNotificationAgreed) {
+        this.fundingId = fundingId;
+        this.receiverId = receiverId;
+        this.email = email;
+        this.emailNotificationAgreed = Boolean.TRUE.equals(emailNotificationAgreed);
+    }
+}
@@ -103,6 +103,28 @@ public class FundingResponseDto implements Serializable {
                 .build();
     }
 
+    // 목록 조회 프로젝션으로 생성 (D-Day와 목표금액 달성율은 생성자에서 계산)
+    public static FundingResponseDto fromQueryDto(FundingListQueryDto queryDto) {
+        return FundingResponseDto.builder()
+                .id(queryDto.getId())
+                .itemLink(queryDto.getItemLink())
+                .itemImage(queryDto.getItemImage())
+                .itemName(queryDto.getItemName())
+                .showName(queryDto.getShowName())
+                .title(queryDto.getTitle())
+                .content(queryDto.getContent())
+                .currentAmount(queryDto.getCurrentAmount())
+                .targetAmount(queryDto.getTargetAmount())
+                .publicFlag(queryDto.isPublicFlag())
+                .endDate(queryDto.getEndDate())
+                .status(queryDto.getStatus())
+                .ownerId(queryDto.getOwnerId())
+                .ownerFlag(false)
+                .createdAt(queryDto.getCreatedAt())
+                .modifiedAt(queryDto.getModifiedAt())
+                .build();
+    }
+
     public static FundingResponseDto emptyDto() {
         return new FundingResponseDto();
     }
@@ -110,4 +132,28 @@ public class FundingResponseDto implements Serializable {
     public void setIsOwner(boolean isOwner) {
         this.ownerFlag = isOwner;
     }
+
+    // 캐시된 객체는 여러 요청이 공유하므로, 요청마다 달라지는 ownerFlag는 복사본에 설정
+    public FundingResponseDto withOwnerFlag(boolean isOwner) {
+        return FundingResponseDto.builder()
+                .id(id)
+                .itemLink(itemLink)
+                .itemImage(itemImage)
+                .itemName(itemName)
+                .showName(showName)
+                .title(title)
+                .content(content)
+                .currentAmount(currentAmount)
+                .targetAmount(targetAmount)
+                .publicFlag(publicFlag)
+                .endDate(endDate)
+                .dday(dday)
+                .status(status)
+                .achievementRate(achievementRate)
+                .ownerId(ownerId)
+                .ownerFlag(isOwner)
+                .createdAt(createdAt)
+                .modifiedAt(modifiedAt)
+                .build();
+    }
 }
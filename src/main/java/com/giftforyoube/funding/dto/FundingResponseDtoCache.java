@@ -13,6 +13,7 @@ public class FundingResponseDtoCache {
     private int page;
     private int size;
     private boolean last;
+    private String nextCursor;
 
     // 생성자, Getter 및 Setter
     public FundingResponseDtoCache() {
@@ -24,4 +25,11 @@ public class FundingResponseDtoCache {
         this.size = size;
         this.last = last;
     }
+
+    public FundingResponseDtoCache(List<FundingResponseDto> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.last = nextCursor == null;
+        this.nextCursor = nextCursor;
+    }
 }
\ No newline at end of file
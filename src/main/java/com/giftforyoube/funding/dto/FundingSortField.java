@@ -0,0 +1,49 @@
+package com.giftforyoube.funding.dto;
+
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 펀딩 목록 조회에서 허용하는 정렬 기준
+ * 커서에는 정렬 컬럼 값이 문자열로 담기므로, 정렬 기준마다 값을 꺼내고 다시 읽는 방법을 함께 정의합니다.
+ */
+@Getter
+public enum FundingSortField {
+    ID("id", FundingListQueryDto::getId, Long::valueOf),
+    CREATED_AT("createdAt", FundingListQueryDto::getCreatedAt, LocalDateTime::parse),
+    END_DATE("endDate", FundingListQueryDto::getEndDate, LocalDate::parse),
+    CURRENT_AMOUNT("currentAmount", FundingListQueryDto::getCurrentAmount, Integer::valueOf),
+    TARGET_AMOUNT("targetAmount", FundingListQueryDto::getTargetAmount, Integer::valueOf);
+
+    private final String property;
+    private final Function<FundingListQueryDto, Comparable<?>> extractor;
+    private final Function<String, Comparable<?>> parser;
+
+    FundingSortField(String property, Function<FundingListQueryDto, Comparable<?>> extractor, Function<String, Comparable<?>> parser) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public static FundingSortField from(String property) {
+        for (FundingSortField sortField : values()) {
+            if (sortField.property.equals(property)) {
+                return sortField;
+            }
+        }
+        throw new BaseException(BaseResponseStatus.INVALID_FUNDING_SORT);
+    }
+
+    public Comparable<?> valueOf(FundingListQueryDto queryDto) {
+        return extractor.apply(queryDto);
+    }
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+}
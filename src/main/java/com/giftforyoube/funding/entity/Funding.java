@@ -19,6 +19,13 @@ import java.util.List;
 @Setter
 @Entity
 @NoArgsConstructor
+// 상태별 공개 펀딩 목록의 커서 조회용 (상태, 공개 여부, 정렬 컬럼, id) 복합 인덱스
+@Table(indexes = {
+        @Index(name = "idx_funding_status_public_created_at_id", columnList = "status, publicFlag, createdAt, id"),
+        @Index(name = "idx_funding_status_public_end_date_id", columnList = "status, publicFlag, endDate, id"),
+        @Index(name = "idx_funding_status_public_current_amount_id", columnList = "status, publicFlag, currentAmount, id"),
+        @Index(name = "idx_funding_status_public_target_amount_id", columnList = "status, publicFlag, targetAmount, id")
+})
 public class Funding extends Auditable implements Serializable {
     private static final long serialVersionUID = 1L;
 
@@ -41,7 +48,8 @@ public class Funding extends Auditable implements Serializable {
     @Enumerated(EnumType.STRING)
     private FundingStatus status;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    // 목록 조회에서는 소유자 ID만 필요하므로 지연 로딩 (프록시의 getId()는 User를 조회하지 않음)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -1,5 +1,7 @@
 package com.giftforyoube.funding.repository;
 
+import com.giftforyoube.funding.dto.FundingListQueryDto;
+import com.giftforyoube.funding.dto.FundingReceiverDto;
 import com.giftforyoube.funding.entity.Funding;
 import com.giftforyoube.funding.entity.FundingStatus;
 import com.giftforyoube.user.entity.User;
@@ -7,23 +9,67 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 
-public interface FundingRepository extends JpaRepository<Funding, Long> {
+public interface FundingRepository extends JpaRepository<Funding, Long>, FundingRepositoryCustom {
     Page<Funding> findAllPageByStatus(FundingStatus status, Pageable pageable);
     @Query("SELECT f FROM Funding f")
     Page<Funding> findById(Pageable pageable);
     Page<Funding> findAll(Pageable pageable);
-    @Query("SELECT f FROM Funding f WHERE f.publicFlag = true")
-    Page<Funding> findAllAndPublicFlagTrue(Pageable pageable);
     Slice<Funding> findByStatus(FundingStatus fundingStatus, Pageable pageable);
-    @Query("SELECT f FROM Funding f WHERE f.status = :status AND f.publicFlag = true")
-    Slice<Funding> findByStatusAndPublicFlagTrue(@Param("status") FundingStatus fundingStatus, Pageable pageable);
-    List<Funding> findByEndDateLessThanEqualAndStatus(LocalDate currentDate, FundingStatus fundingStatus);
+
+    // 목록 조회용 프로젝션 - FundingResponseDto에 필요한 컬럼만 조회 (소유자는 외래 키 컬럼만 사용하여 조인 없음)
+    String FUNDING_LIST_SELECT = "SELECT new com.giftforyoube.funding.dto.FundingListQueryDto(" +
+            "f.id, f.itemLink, f.itemImage, f.itemName, f.showName, f.title, f.content, f.currentAmount, f.targetAmount, " +
+            "f.publicFlag, f.endDate, f.status, f.user.id, f.createdAt, f.modifiedAt) FROM Funding f";
+
+    // 전체 개수는 PublicFundingCounter에서 조회하므로 COUNT 쿼리 없이 목록만 조회
+    @Query(FUNDING_LIST_SELECT + " WHERE f.publicFlag = true")
+    List<FundingListQueryDto> findPublicFundingList(Pageable pageable);
+
+    long countByPublicFlagTrue();
+
+    @Query(FUNDING_LIST_SELECT + " WHERE f.status = :status AND f.publicFlag = true")
+    Slice<FundingListQueryDto> findPublicFundingListByStatus(@Param("status") FundingStatus fundingStatus, Pageable pageable);
+
+    // 마감일이 지난 진행중 펀딩 ID를 afterId 이후부터 청크 단위로 잠금 조회 (SELECT ... FOR UPDATE)
+    // 같은 트랜잭션의 일괄 UPDATE까지 후원에 의한 종료 전환이나 다른 인스턴스의 마감 처리가 끼어들지 않아, 조회된 펀딩은 모두 이번 청크에서 종료됨
+    @Query(value = "SELECT f.id FROM funding f WHERE f.id > :afterId AND f.end_date <= :currentDate AND f.status = 'ACTIVE' " +
+            "ORDER BY f.id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Long> lockExpiredActiveFundingIds(@Param("currentDate") LocalDate currentDate, @Param("afterId") long afterId,
+                                           @Param("limit") int limit);
+
+    // 펀딩 ID와 알림 수신자 정보를 한 번의 조인 쿼리로 조회 (펀딩마다 User를 로딩하는 N+1 방지)
+    @Query("SELECT new com.giftforyoube.funding.dto.FundingReceiverDto(f.id, u.id, u.email, u.isEmailNotificationAgreed) " +
+            "FROM Funding f JOIN f.user u WHERE f.id IN :fundingIds")
+    List<FundingReceiverDto> findReceiversByFundingIds(@Param("fundingIds") List<Long> fundingIds);
   
     Funding findByUserIdAndStatus(Long userId, FundingStatus fundingStatus);
-}
\ No newline at end of file
+
+    // 후원 금액을 DB에서 원자적으로 누적 (동시 후원 시 갱신 유실 방지)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Funding f SET f.currentAmount = f.currentAmount + :amount WHERE f.id = :fundingId")
+    int increaseCurrentAmount(@Param("fundingId") Long fundingId, @Param("amount") int amount);
+
+    // 목표 금액에 도달한 진행중 펀딩을 종료 - 조건부 UPDATE이므로 동시에 호출되어도 한 번만 1을 반환
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Funding f SET f.status = com.giftforyoube.funding.entity.FundingStatus.FINISHED " +
+            "WHERE f.id = :fundingId AND f.status = com.giftforyoube.funding.entity.FundingStatus.ACTIVE " +
+            "AND f.currentAmount >= f.targetAmount")
+    int finishIfTargetReached(@Param("fundingId") Long fundingId);
+
+    // 진행중 펀딩을 한 번의 UPDATE로 종료
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Funding f SET f.status = com.giftforyoube.funding.entity.FundingStatus.FINISHED " +
+            "WHERE f.id IN :fundingIds AND f.status = com.giftforyoube.funding.entity.FundingStatus.ACTIVE")
+    int finishAllActive(@Param("fundingIds") List<Long> fundingIds);
+}
@@ -0,0 +1,16 @@
+package com.giftforyoube.funding.repository;
+
+import com.giftforyoube.funding.dto.FundingCursor;
+import com.giftforyoube.funding.dto.FundingListQueryDto;
+import com.giftforyoube.funding.dto.FundingSortField;
+import com.giftforyoube.funding.entity.FundingStatus;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+public interface FundingRepositoryCustom {
+
+    // 커서 이후의 공개 펀딩을 (정렬 컬럼, ID) 순서로 limit 건 조회 (커서가 null이면 처음부터)
+    List<FundingListQueryDto> findPublicFundingListAfter(FundingStatus status, FundingSortField sortField,
+                                                         Sort.Direction direction, FundingCursor cursor, int limit);
+}
@@ -0,0 +1,76 @@
+package com.giftforyoube.funding.repository;
+
+import com.giftforyoube.funding.dto.FundingCursor;
+import com.giftforyoube.funding.dto.FundingListQueryDto;
+import com.giftforyoube.funding.dto.FundingSortField;
+import com.giftforyoube.funding.entity.Funding;
+import com.giftforyoube.funding.entity.FundingStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 펀딩 목록 조회
+ * OFFSET으로 앞의 행을 읽고 버리는 대신 (정렬 컬럼, ID) 조건으로 커서 다음 행부터 읽으므로,
+ * 뒤쪽 페이지도 (status, publicFlag, 정렬 컬럼, id) 인덱스를 따라 첫 페이지와 같은 비용으로 조회됩니다.
+ */
+@RequiredArgsConstructor
+public class FundingRepositoryCustomImpl implements FundingRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<FundingListQueryDto> findPublicFundingListAfter(FundingStatus status, FundingSortField sortField,
+                                                                Sort.Direction direction, FundingCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FundingListQueryDto> query = cb.createQuery(FundingListQueryDto.class);
+        Root<Funding> root = query.from(Funding.class);
+
+        query.select(cb.construct(FundingListQueryDto.class,
+                root.get("id"), root.get("itemLink"), root.get("itemImage"), root.get("itemName"), root.get("showName"),
+                root.get("title"), root.get("content"), root.get("currentAmount"), root.get("targetAmount"),
+                root.get("publicFlag"), root.get("endDate"), root.get("status"), root.get("user").get("id"),
+                root.get("createdAt"), root.get("modifiedAt")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("status"), status));
+        predicates.add(cb.isTrue(root.get("publicFlag")));
+        if (cursor != null) {
+            predicates.add(after(cb, root, sortField, direction, cursor));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+
+        Path<?> sortPath = root.get(sortField.getProperty());
+        Path<?> idPath = root.get("id");
+        query.orderBy(direction.isAscending()
+                ? List.of(cb.asc(sortPath), cb.asc(idPath))
+                : List.of(cb.desc(sortPath), cb.desc(idPath)));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 내림차순: value < :value OR (value = :value AND id < :id), 오름차순은 부등호 반대
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate after(CriteriaBuilder cb, Root<Funding> root, FundingSortField sortField,
+                            Sort.Direction direction, FundingCursor cursor) {
+        Path<Comparable> value = root.get(sortField.getProperty());
+        Path<Long> id = root.get("id");
+        Comparable cursorValue = cursor.getValue();
+        if (direction.isAscending()) {
+            return cb.or(cb.greaterThan(value, cursorValue),
+                    cb.and(cb.equal(value, cursorValue), cb.greaterThan(id, cursor.getId())));
+        }
+        return cb.or(cb.lessThan(value, cursorValue),
+                cb.and(cb.equal(value, cursorValue), cb.lessThan(id, cursor.getId())));
+    }
+}
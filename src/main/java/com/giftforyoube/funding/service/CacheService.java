@@ -9,9 +9,11 @@ import com.giftforyoube.global.exception.BaseException;
 import com.giftforyoube.global.exception.BaseResponseStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -26,10 +28,37 @@ public class CacheService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final FundingNearCache nearCache;
 
 
     private static final String FUNDING_ITEM_CACHE_PREFIX = "cachedFundingItem:";
     private static final String FUNDING_SUMMARY_CACHE_KEY = "fundingSummary";
+    private static final String CACHE_VERSION_SUFFIX = ":version";
+    private static final String FUNDING_PAGE_INDEX_PREFIX = "fundingPageIndex:";
+    private static final Duration FUNDING_CACHE_TTL = Duration.ofHours(1);
+
+    // 버전(세대) 키로 관리되는 펀딩 캐시 네임스페이스
+    public static final String ACTIVE_MAIN_FUNDINGS = "activeMainFundings";
+    public static final String ALL_FUNDINGS = "allFundings";
+    public static final String ACTIVE_FUNDINGS = "activeFundings";
+    public static final String FINISHED_FUNDINGS = "finishedFundings";
+    public static final String MY_FUNDING_INFO = "MyFundingInfo";
+    public static final String FUNDING_DETAIL = "fundingDetail";
+
+    // 후원 금액순으로 정렬된 목록 페이지는 후원마다 펀딩의 위치가 바뀔 수 있으므로 별도 버전으로 관리
+    private static final String AMOUNT_SORTED_SUFFIX = ":amountSorted";
+    private static final List<String> AMOUNT_SORTED_LIST_NAMESPACES = List.of(
+            ACTIVE_MAIN_FUNDINGS + AMOUNT_SORTED_SUFFIX, ALL_FUNDINGS + AMOUNT_SORTED_SUFFIX,
+            ACTIVE_FUNDINGS + AMOUNT_SORTED_SUFFIX, FINISHED_FUNDINGS + AMOUNT_SORTED_SUFFIX);
+
+    // 펀딩별 페이지 인덱스를 두는 목록 네임스페이스 (후원 금액순 페이지는 버전 증가로 무효화되므로 제외)
+    private static final List<String> INDEXED_LIST_NAMESPACES = List.of(
+            ACTIVE_MAIN_FUNDINGS, ALL_FUNDINGS, ACTIVE_FUNDINGS, FINISHED_FUNDINGS);
+
+    private static final List<String> VERSIONED_FUNDING_NAMESPACES = List.of(
+            ACTIVE_MAIN_FUNDINGS, ALL_FUNDINGS, ACTIVE_FUNDINGS, FINISHED_FUNDINGS, MY_FUNDING_INFO, FUNDING_DETAIL,
+            ACTIVE_MAIN_FUNDINGS + AMOUNT_SORTED_SUFFIX, ALL_FUNDINGS + AMOUNT_SORTED_SUFFIX,
+            ACTIVE_FUNDINGS + AMOUNT_SORTED_SUFFIX, FINISHED_FUNDINGS + AMOUNT_SORTED_SUFFIX);
 
     /**
      * USERID로 캐시키를 생성합니다.
@@ -96,26 +125,34 @@ public class CacheService {
             // Page 구현체를 JSON으로 변환하는 과정에서는 구현체의 구체적인 클래스 정보가 필요할 수 있으므로,
 
             String jsonContent = objectMapper.writeValueAsString(page.getContent());
-            redisTemplate.opsForValue().set(cacheKey, jsonContent, Duration.ofHours(1));
+            redisTemplate.opsForValue().set(cacheKey, jsonContent, FUNDING_CACHE_TTL);
+            indexFundingPage(cacheKey, page.getContent());
+            nearCache.put(cacheKey, List.copyOf(page.getContent()));
         } catch (JsonProcessingException e) {
             throw new BaseException(BaseResponseStatus.SERIALIZING_ERROR);
         }
     }
 
     /**
-     * 캐시에서 Page 데이터 조회
+     * 캐시에서 Page 데이터 조회 (L1 → Redis 순서)
      *
      * @param cacheKey 캐시를 조회할 캐시 키 값
      * @param pageable 페이지 정보
      * @return 캐시에서 조회한 페이지 정보 반환
      */
+    @SuppressWarnings("unchecked")
     public Page<FundingResponseDto> getFundingPageFromCache(String cacheKey, Pageable pageable) {
+        List<FundingResponseDto> nearContent = nearCache.get(cacheKey, List.class);
+        if (nearContent != null) {
+            return new PageImpl<>(nearContent, pageable, nearContent.size());
+        }
         String jsonContent = redisTemplate.opsForValue().get(cacheKey);
         if (jsonContent == null) {
             return null;
         }
         try {
             List<FundingResponseDto> content = objectMapper.readValue(jsonContent, new TypeReference<List<FundingResponseDto>>(){});
+            nearCache.put(cacheKey, content);
             // 캐시된 내용과 Pageable 정보를 기반으로 새 Page 객체를 생성해야함.
             // 실제 페이지 크기와 전체 페이지 수 등은 DB 조회 없이 알 수 없으므로, 조정이 필요.
             return new PageImpl<>(content, pageable, content.size());
@@ -136,19 +173,26 @@ public class CacheService {
             cachedPage.setMetadata(new FundingPageMetadata(page.getTotalPages(), page.getTotalElements()));
 
             String jsonContent = objectMapper.writeValueAsString(cachedPage);
-            redisTemplate.opsForValue().set(cacheKey, jsonContent, Duration.ofHours(1));
+            redisTemplate.opsForValue().set(cacheKey, jsonContent, FUNDING_CACHE_TTL);
+            indexFundingPage(cacheKey, page.getContent());
+            nearCache.put(cacheKey, cachedPage);
         } catch (JsonProcessingException e) {
             throw new BaseException(BaseResponseStatus.SERIALIZING_ERROR);
         }
     }
 
     /**
-     * 캐시에서 페이지 정보를 조회
+     * 캐시에서 페이지 정보를 조회 (L1 → Redis 순서)
      * @param cacheKey 캐시를 조회할 캐시 키 값
      * @param pageable 페이지 정보
      * @return 캐시에서 조회한 페이지 정보 반환
      */
+    @SuppressWarnings("unchecked")
     public Page<FundingResponseDto> getFundingsPageFromCache(String cacheKey, Pageable pageable) {
+        FundingPageCached<FundingResponseDto> nearPage = nearCache.get(cacheKey, FundingPageCached.class);
+        if (nearPage != null) {
+            return new PageImpl<>(nearPage.getContent(), pageable, nearPage.getMetadata().getTotalElements());
+        }
         String jsonContent = redisTemplate.opsForValue().get(cacheKey);
         if (jsonContent == null) {
             return Page.empty(); // 캐시에서 데이터를 가져올 수 없으면 빈 페이지 반환
@@ -156,6 +200,7 @@ public class CacheService {
         try {
             FundingPageCached<FundingResponseDto> cachedPage = objectMapper.readValue(jsonContent, new TypeReference<FundingPageCached<FundingResponseDto>>() {
             });
+            nearCache.put(cacheKey, cachedPage);
             return new PageImpl<>(cachedPage.getContent(), pageable, cachedPage.getMetadata().getTotalElements());
         } catch (JsonProcessingException e) {
             throw new BaseException(BaseResponseStatus.DESERIALIZING_ERROR);
@@ -178,32 +223,87 @@ public class CacheService {
 
         try {
             String jsonContent = objectMapper.writeValueAsString(cache);
-            redisTemplate.opsForValue().set(cacheKey, jsonContent, Duration.ofHours(1)); // 캐시 만료 시간은 필요에 따라 조정
+            redisTemplate.opsForValue().set(cacheKey, jsonContent, FUNDING_CACHE_TTL); // 캐시 만료 시간은 필요에 따라 조정
+            indexFundingPage(cacheKey, fundings.getContent());
+            nearCache.put(cacheKey, cache);
         } catch (JsonProcessingException e) {
             throw new BaseException(BaseResponseStatus.SERIALIZING_ERROR);
         }
     }
 
     /**
-     * // 캐시에서 목록 조회하는 로직
+     * // 캐시에서 목록 조회하는 로직 (L1 → Redis 순서)
      *
      * @param cacheKey 캐시에서 조회할 캐시 키 값
      * @param pageable 페이지 정보
      * @return 캐시에서 조회한 펀딩 리스트 slice  반환
      */
     public Slice<FundingResponseDto> getFundingListFromCache(String cacheKey, Pageable pageable) {
+        FundingResponseDtoCache nearSlice = nearCache.get(cacheKey, FundingResponseDtoCache.class);
+        if (nearSlice != null) {
+            return new SliceImpl<>(nearSlice.getContent(), PageRequest.of(nearSlice.getPage(), nearSlice.getSize()), nearSlice.isLast());
+        }
         String jsonContent = redisTemplate.opsForValue().get(cacheKey);
         if (jsonContent == null) {
             return new SliceImpl<>(Collections.emptyList(), pageable, false);
         }
         try {
             FundingResponseDtoCache cache = objectMapper.readValue(jsonContent, FundingResponseDtoCache.class);
+            nearCache.put(cacheKey, cache);
             return new SliceImpl<>(cache.getContent(), PageRequest.of(cache.getPage(), cache.getSize()), cache.isLast());
         } catch (JsonProcessingException e) {
             throw new BaseException(BaseResponseStatus.DESERIALIZING_ERROR);
         }
     }
 
+    /**
+     * 커서 기반으로 조회한 펀딩 목록을 캐시에 저장합니다.
+     *
+     * @param cacheKey 캐시에 저장할 캐시 키 값 (커서 포함)
+     * @param fundings 커서 기반 펀딩 목록
+     */
+    public void saveFundingKeysetSliceToCache(String cacheKey, FundingKeysetSlice fundings) {
+        FundingResponseDtoCache cache = new FundingResponseDtoCache(
+                new ArrayList<>(fundings.getContent()),
+                fundings.getSize(),
+                fundings.getNextCursor()
+        );
+
+        try {
+            String jsonContent = objectMapper.writeValueAsString(cache);
+            redisTemplate.opsForValue().set(cacheKey, jsonContent, FUNDING_CACHE_TTL);
+            indexFundingPage(cacheKey, fundings.getContent());
+            nearCache.put(cacheKey, cache);
+        } catch (JsonProcessingException e) {
+            throw new BaseException(BaseResponseStatus.SERIALIZING_ERROR);
+        }
+    }
+
+    /**
+     * 캐시에서 커서 기반 펀딩 목록을 조회합니다. (L1 → Redis 순서)
+     *
+     * @param cacheKey 캐시에서 조회할 캐시 키 값 (커서 포함)
+     * @param page 클라이언트가 보낸 페이지 번호 (응답의 number로 사용)
+     * @return 캐시에서 조회한 펀딩 목록, 없으면 null
+     */
+    public FundingKeysetSlice getFundingKeysetSliceFromCache(String cacheKey, int page) {
+        FundingResponseDtoCache nearSlice = nearCache.get(cacheKey, FundingResponseDtoCache.class);
+        if (nearSlice != null) {
+            return new FundingKeysetSlice(nearSlice.getContent(), page, nearSlice.getSize(), nearSlice.getNextCursor());
+        }
+        String jsonContent = redisTemplate.opsForValue().get(cacheKey);
+        if (jsonContent == null) {
+            return null;
+        }
+        try {
+            FundingResponseDtoCache cache = objectMapper.readValue(jsonContent, FundingResponseDtoCache.class);
+            nearCache.put(cacheKey, cache);
+            return new FundingKeysetSlice(cache.getContent(), page, cache.getSize(), cache.getNextCursor());
+        } catch (JsonProcessingException e) {
+            throw new BaseException(BaseResponseStatus.DESERIALIZING_ERROR);
+        }
+    }
+
     /**
      * // 펀딩 상세 정보 캐시에 저장
      *
@@ -213,40 +313,54 @@ public class CacheService {
     public void saveFundingToCache(String cacheKey, FundingResponseDto fundingResponseDto) {
         try {
             String jsonContent = objectMapper.writeValueAsString(fundingResponseDto);
-            redisTemplate.opsForValue().set(cacheKey, jsonContent, Duration.ofHours(1));
+            redisTemplate.opsForValue().set(cacheKey, jsonContent, FUNDING_CACHE_TTL);
+            nearCache.put(cacheKey, fundingResponseDto);
         } catch (JsonProcessingException e) {
             throw new BaseException(BaseResponseStatus.SERIALIZING_ERROR);
         }
     }
 
     /**
-     * 펀딩 상세 정보 캐시에서 조회
+     * 펀딩 상세 정보 캐시에서 조회 (L1 → Redis 순서)
+     * L1의 객체는 여러 요청이 공유하므로 반환값을 변경하지 않아야 합니다.
      * @param cacheKey 캐시에서 조회할 캐시 키 값
      * @return 캐시에서 조회한 펀딩 상세 정보 반환
      */
     public FundingResponseDto getFundingFromCache(String cacheKey) {
+        FundingResponseDto nearFunding = nearCache.get(cacheKey, FundingResponseDto.class);
+        if (nearFunding != null) {
+            return nearFunding;
+        }
         String jsonContent = redisTemplate.opsForValue().get(cacheKey);
         if (jsonContent == null) {
             return null;
         }
         try {
-            return objectMapper.readValue(jsonContent, FundingResponseDto.class);
+            FundingResponseDto fundingResponseDto = objectMapper.readValue(jsonContent, FundingResponseDto.class);
+            nearCache.put(cacheKey, fundingResponseDto);
+            return fundingResponseDto;
         } catch (JsonProcessingException e) {
             throw new BaseException(BaseResponseStatus.DESERIALIZING_ERROR);
         }
     }
 
     /**
-     *  캐시에 저장된 펀딩 통계 정보 가져오기
+     *  캐시에 저장된 펀딩 통계 정보 가져오기 (L1 → Redis 순서)
      * @return 펀딩 통계 정보 반환
      */
     public FundingSummaryResponseDto getSummaryFromCache() {
+        FundingSummaryResponseDto nearSummary = nearCache.get(FUNDING_SUMMARY_CACHE_KEY, FundingSummaryResponseDto.class);
+        if (nearSummary != null) {
+            return nearSummary;
+        }
         String jsonContent = redisTemplate.opsForValue().get(FUNDING_SUMMARY_CACHE_KEY);
         if (jsonContent == null) {
             return null;
         }
         try {
-            return objectMapper.readValue(jsonContent, FundingSummaryResponseDto.class);
+            FundingSummaryResponseDto summary = objectMapper.readValue(jsonContent, FundingSummaryResponseDto.class);
+            nearCache.put(FUNDING_SUMMARY_CACHE_KEY, summary);
+            return summary;
         } catch (JsonProcessingException e) {
             log.error("Error deserializing funding summary from cache", e);
             return null;
@@ -260,39 +374,144 @@ public class CacheService {
         try {
             String jsonContent = objectMapper.writeValueAsString(summary);
             redisTemplate.opsForValue().set(FUNDING_SUMMARY_CACHE_KEY, jsonContent, Duration.ofHours(1)); // 캐시 유지 시간은 요구 사항에 따라 조정 가능
+            nearCache.put(FUNDING_SUMMARY_CACHE_KEY, summary);
         } catch (JsonProcessingException e) {
             log.error("Error serializing funding summary to cache", e);
         }
     }
 
     /**
-     * 펀딩 생성, 업데이트, 삭제 시 캐시 삭제
+     * 네임스페이스의 현재 버전을 포함한 캐시키를 생성합니다.
+     * 버전이 올라가면 이전 버전의 캐시는 더 이상 조회되지 않고 TTL에 의해 만료됩니다.
+     * 버전 값도 L1에 보관하여 정상 상태에서는 Redis 왕복 없이 키를 만듭니다.
+     *
+     * @param namespace 캐시 네임스페이스 (activeMainFundings, allFundings 등)
+     * @param key 네임스페이스 내의 캐시 키
+     * @return {namespace}:v{version}:{key} 형태의 캐시키 반환
      */
-    public void clearFundingCaches() {
-        // 메인 펀딩 관련 캐시 삭제
-        clearCacheByPattern("activeMainFundings:*");
+    public String buildFundingCacheKey(String namespace, String key) {
+        String versionKey = namespace + CACHE_VERSION_SUFFIX;
+        String version = nearCache.get(versionKey, String.class);
+        if (version == null) {
+            String storedVersion = redisTemplate.opsForValue().get(versionKey);
+            version = storedVersion == null ? "0" : storedVersion;
+            nearCache.put(versionKey, version);
+        }
+        return namespace + ":v" + version + ":" + key;
+    }
 
-        // 기존의 펀딩 리스트 관련 캐시 삭제
-        clearCacheByPattern("allFundings:*");
-        clearCacheByPattern("activeFundings:*");
-        clearCacheByPattern("finishedFundings:*");
-        clearCacheByPattern("MyFundingInfo:*");
+    /**
+     * 목록 페이지의 캐시키를 생성합니다.
+     * 후원 금액순 정렬 페이지는 별도 네임스페이스 버전을 사용하여 후원 발생 시 통째로 무효화됩니다.
+     *
+     * @param namespace 목록 캐시 네임스페이스 (activeMainFundings, allFundings 등)
+     * @param sortBy 정렬 기준 프로퍼티
+     * @param key 네임스페이스 내의 캐시 키
+     * @return 캐시키 반환
+     */
+    public String buildFundingListCacheKey(String namespace, String sortBy, String key) {
+        if (FundingSortField.CURRENT_AMOUNT.getProperty().equals(sortBy)) {
+            return buildFundingCacheKey(namespace + AMOUNT_SORTED_SUFFIX, key);
+        }
+        return buildFundingCacheKey(namespace, key);
+    }
 
-        // 상세 페이지 캐시 삭제 추가
-        clearCacheByPattern("fundingDetail:*");
+    /**
+     * 펀딩 생성, 업데이트, 삭제 시 캐시 무효화
+     * KEYS로 키스페이스 전체를 스캔하는 대신 네임스페이스별 버전 키를 INCR 합니다. (파이프라인으로 한 번의 왕복)
+     */
+    public void clearFundingCaches() {
+        List<String> nearCacheKeys = increaseVersions(VERSIONED_FUNDING_NAMESPACES);
 
         // Giftipie에서 함께한 선물 캐시 삭제
-        clearCacheByPattern(FUNDING_SUMMARY_CACHE_KEY);
+        redisTemplate.delete(FUNDING_SUMMARY_CACHE_KEY);
+
+        // 모든 인스턴스의 L1에서 버전 키와 통계 캐시 삭제 (이전 버전의 항목은 더 이상 조회되지 않음)
+        nearCacheKeys.add(FUNDING_SUMMARY_CACHE_KEY);
+        nearCache.invalidate(nearCacheKeys);
     }
 
     /**
-     * 입력받은 패턴의 캐시키로 캐시 값 삭제
-     * @param pattern 캐시키의 패턴
+     * 네임스페이스별 버전 키를 파이프라인으로 INCR 합니다.
+     *
+     * @param namespaces 버전을 올릴 네임스페이스 목록
+     * @return L1에서 삭제해야 할 버전 키 목록
      */
-    public void clearCacheByPattern(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern);
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys);
+    private List<String> increaseVersions(List<String> namespaces) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String namespace : namespaces) {
+                connection.stringCommands().incr((namespace + CACHE_VERSION_SUFFIX).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        List<String> versionKeys = new ArrayList<>();
+        namespaces.forEach(namespace -> versionKeys.add(namespace + CACHE_VERSION_SUFFIX));
+        return versionKeys;
+    }
+
+    /**
+     * 목록 페이지에 포함된 펀딩 ID별로 해당 페이지 캐시키를 인덱스(Set)에 기록합니다.
+     * 특정 펀딩이 변경되었을 때 그 펀딩을 포함한 페이지만 골라서 삭제하기 위해 사용합니다.
+     * 인덱스는 페이지와 같은 네임스페이스 버전({namespace}:v{version}:fundingPageIndex:{fundingId})에 두어,
+     * 버전이 올라가면 이전 버전의 페이지 키와 함께 더 이상 갱신되지 않고 TTL로 만료됩니다.
+     *
+     * @param cacheKey 저장된 페이지의 캐시 키
+     * @param content 페이지에 포함된 펀딩 목록
+     */
+    private void indexFundingPage(String cacheKey, List<FundingResponseDto> content) {
+        // 후원 금액순 페이지는 버전 증가로 무효화되므로 인덱스에 기록하지 않음
+        if (content.isEmpty() || cacheKey.contains(AMOUNT_SORTED_SUFFIX + ":")) {
+            return;
+        }
+        // {namespace}:v{version}: 까지를 인덱스 키의 접두사로 사용
+        String versionedPrefix = cacheKey.substring(0, cacheKey.indexOf(':', cacheKey.indexOf(":v") + 1) + 1);
+        byte[] pageKey = cacheKey.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (FundingResponseDto fundingResponseDto : content) {
+                byte[] indexKey = (versionedPrefix + FUNDING_PAGE_INDEX_PREFIX + fundingResponseDto.getId())
+                        .getBytes(StandardCharsets.UTF_8);
+                connection.setCommands().sAdd(indexKey, pageKey);
+                // 같은 버전 안에서는 인덱스가 자신이 가리키는 페이지보다 먼저 만료되지 않도록 페이지와 같은 TTL로 갱신
+                connection.keyCommands().expire(indexKey, FUNDING_CACHE_TTL.getSeconds());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 하나의 펀딩 정보(후원 금액 등)만 변경되었을 때 관련된 캐시만 삭제합니다.
+     * 상세 페이지, 펀딩 주인의 내 펀딩 정보, 해당 펀딩을 포함한 목록 페이지, 통계 캐시가 대상입니다.
+     * 목록 페이지는 현재 버전의 인덱스만 조회하며, 이전 버전의 페이지는 더 이상 조회되지 않으므로 삭제하지 않습니다.
+     * 후원 금액순 목록은 후원으로 펀딩이 다른 페이지로 이동할 수 있으므로 해당 네임스페이스 버전을 올려 모두 무효화합니다.
+     *
+     * @param fundingId 변경된 펀딩의 ID
+     * @param ownerId 펀딩을 등록한 USER의 ID
+     */
+    public void evictFundingCaches(Long fundingId, Long ownerId) {
+        List<String> indexKeys = new ArrayList<>();
+        for (String namespace : INDEXED_LIST_NAMESPACES) {
+            indexKeys.add(buildFundingCacheKey(namespace, FUNDING_PAGE_INDEX_PREFIX + fundingId));
         }
+        List<Object> pageKeySets = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String indexKey : indexKeys) {
+                connection.setCommands().sMembers(indexKey.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        List<String> keys = new ArrayList<>(indexKeys);
+        for (Object pageKeys : pageKeySets) {
+            if (pageKeys instanceof Set<?> members) {
+                members.forEach(member -> keys.add(member.toString()));
+            }
+        }
+        keys.add(buildFundingCacheKey(FUNDING_DETAIL, fundingId.toString()));
+        keys.add(buildFundingCacheKey(MY_FUNDING_INFO, ownerId.toString()));
+        keys.add(FUNDING_SUMMARY_CACHE_KEY);
+        redisTemplate.delete(keys);
+
+        keys.addAll(increaseVersions(AMOUNT_SORTED_LIST_NAMESPACES));
+        nearCache.invalidate(keys);
     }
 }
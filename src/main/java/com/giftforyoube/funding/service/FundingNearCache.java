@@ -0,0 +1,96 @@
+package com.giftforyoube.funding.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Redis(L2) 앞단에 위치하는 인스턴스 로컬(L1) 캐시
+ * Caffeine(W-TinyLFU)으로 최대 크기를 제한하고, 역직렬화된 객체를 그대로 보관하여 Redis 왕복과 JSON 파싱을 생략합니다.
+ * 캐시 무효화는 Redis pub/sub 채널로 전파되어 모든 인스턴스의 L1이 함께 삭제됩니다.
+ * 메시지 유실에 대비해 짧은 expireAfterWrite를 함께 사용합니다.
+ */
+@Slf4j
+@Component
+public class FundingNearCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "fundingNearCache:invalidation";
+    private static final String KEY_DELIMITER = "\n";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<String, Object> cache;
+
+    public FundingNearCache(RedisTemplate<String, String> redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            @Value("${funding.cache.near.maximum-size:10000}") long maximumSize,
+                            @Value("${funding.cache.near.expire-after-write-seconds:30}") long expireAfterWriteSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * L1 캐시에서 값을 조회합니다.
+     *
+     * @param key 캐시 키 (Redis 캐시 키와 동일)
+     * @param type 기대하는 값의 타입
+     * @return 캐시된 값, 없거나 타입이 다르면 null
+     */
+    public <T> T get(String key, Class<T> type) {
+        Object value = cache.getIfPresent(key);
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
+    /**
+     * L1 캐시에 값을 저장합니다.
+     * 저장된 객체는 여러 요청에서 공유되므로 변경하지 않는 객체만 저장해야 합니다.
+     */
+    public void put(String key, Object value) {
+        cache.put(key, value);
+    }
+
+    /**
+     * 현재 인스턴스의 L1에서 키를 삭제하고, 다른 인스턴스에도 삭제 메시지를 발행합니다.
+     *
+     * @param keys 삭제할 캐시 키 목록
+     */
+    public void invalidate(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        cache.invalidateAll(keys);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.join(KEY_DELIMITER, keys));
+    }
+
+    /**
+     * 다른 인스턴스에서 발행한 무효화 메시지를 수신하여 L1에서 해당 키를 삭제합니다.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        cache.invalidateAll(Arrays.asList(body.split(KEY_DELIMITER)));
+        log.debug("[FundingNearCache] L1 캐시 무효화: {}", body);
+    }
+}
@@ -6,9 +6,7 @@ import com.giftforyoube.funding.dto.*;
 import com.giftforyoube.funding.entity.Funding;
 import com.giftforyoube.funding.entity.FundingItem;
 import com.giftforyoube.funding.entity.FundingStatus;
-import com.giftforyoube.funding.entity.FundingSummary;
 import com.giftforyoube.funding.repository.FundingRepository;
-import com.giftforyoube.funding.repository.FundingSummaryRepository;
 import com.giftforyoube.global.exception.BaseException;
 import com.giftforyoube.global.exception.BaseResponseStatus;
 import com.giftforyoube.user.entity.User;
@@ -16,7 +14,6 @@ import com.giftforyoube.user.repository.UserRepository;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.select.Elements;
 import org.redisson.api.RLock;
@@ -28,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -40,10 +38,11 @@ public class FundingService {
     private final UserRepository userRepository;
     private final RedissonClient redissonClient;
     private final DonationRepository donationRepository;
-    private final FundingSummaryRepository fundingSummaryRepository;
+    private final FundingSummaryCounter fundingSummaryCounter;
     private final CacheService cacheService;
-
-    private static final int TIMEOUT = 10000; // 10초
+    private final SingleFlightLoader singleFlightLoader;
+    private final LinkPreviewFetcher linkPreviewFetcher;
+    private final PublicFundingCounter publicFundingCounter;
 
     /**
      * 락을 획득한 후에 로직 진행
@@ -122,6 +121,9 @@ public class FundingService {
             Funding funding = requestDto.toEntity(fundingItem, status);
             funding.setUser(user);
             fundingRepository.save(funding);
+            if (funding.isPublicFlag()) {
+                publicFundingCounter.increase();
+            }
             cacheService.clearCache(userCacheKey);
             cacheService.clearFundingCaches();
             return FundingResponseDto.fromEntity(funding);
@@ -144,7 +146,7 @@ public class FundingService {
      */
     @Transactional(readOnly = true)
     public FundingResponseDto findFunding(Long fundingId) {
-        String cacheKey = "fundingDetail:" + fundingId;
+        String cacheKey = cacheService.buildFundingCacheKey(CacheService.FUNDING_DETAIL, fundingId.toString());
         // 캐시에서 조회 시도
         FundingResponseDto cachedFunding = cacheService.getFundingFromCache(cacheKey);
         if (cachedFunding != null) {
@@ -173,7 +175,7 @@ public class FundingService {
     public FundingResponseDto getMyFundingInfo(User currentUser) {
         log.info("[getMyFundingInfo] 내 펀딩 정보 조회");
 
-        String cacheKey = "MyFundingInfo:" + currentUser.getId();
+        String cacheKey = cacheService.buildFundingCacheKey(CacheService.MY_FUNDING_INFO, currentUser.getId().toString());
         // 캐시에서 조회 시도
         FundingResponseDto cachedFunding = cacheService.getFundingFromCache(cacheKey);
         if (cachedFunding != null) {
@@ -202,7 +204,7 @@ public class FundingService {
         log.info("[getActiveMainFundings] 메인페이지 진행중인 펀딩 조회");
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy));
-        String cacheKey = "activeMainFundings:" + page + ":" + size + ":" + sortBy + ":" + sortOrder;
+        String cacheKey = cacheService.buildFundingListCacheKey(CacheService.ACTIVE_MAIN_FUNDINGS, sortBy, page + ":" + size + ":" + sortBy + ":" + sortOrder);
 
         // 캐시에서 조회 시도
         Page<FundingResponseDto> cachedPage = cacheService.getFundingPageFromCache(cacheKey, pageable);
@@ -210,14 +212,17 @@ public class FundingService {
             return cachedPage;
         }
 
-        // DB에서 조회
-        Page<Funding> mainFundings = fundingRepository.findAllAndPublicFlagTrue(pageable);
-        Page<FundingResponseDto> fundingResponseDtoPage = mainFundings.map(FundingResponseDto::fromEntity);
-
-        // 결과를 캐시에 저장
-        cacheService.saveFundingPageToCache(cacheKey, fundingResponseDtoPage);
-
-        return fundingResponseDtoPage;
+        // 캐시 미스 시 같은 키의 DB 조회는 한 번만 실행하고 결과를 공유
+        return singleFlightLoader.load(cacheKey,
+                () -> cacheService.getFundingPageFromCache(cacheKey, pageable),
+                () -> {
+                    // DB에서 조회
+                    Page<FundingResponseDto> fundingResponseDtoPage = loadPublicFundingPage(pageable);
+
+                    // 결과를 캐시에 저장
+                    cacheService.saveFundingPageToCache(cacheKey, fundingResponseDtoPage);
+                    return fundingResponseDtoPage;
+                });
     }
 
     /**
@@ -228,7 +233,7 @@ public class FundingService {
     @Transactional(readOnly = true)
     public Page<FundingResponseDto> getAllFundings(int page, int size, String sortBy, String sortOrder) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy));
-        String cacheKey = "allFundings:" + page + ":" + size + ":" + sortBy + ":" + sortOrder;
+        String cacheKey = cacheService.buildFundingListCacheKey(CacheService.ALL_FUNDINGS, sortBy, page + ":" + size + ":" + sortBy + ":" + sortOrder);
 
         // 캐시에서 조회 시도
         Page<FundingResponseDto> cachedFundings = cacheService.getFundingsPageFromCache(cacheKey, pageable);
@@ -236,26 +241,52 @@ public class FundingService {
             return cachedFundings;
         }
 
-        // DB에서 조회
-        Page<Funding> allFunding = fundingRepository.findAllAndPublicFlagTrue(pageable);
-        Page<FundingResponseDto> allFundings = allFunding.map(FundingResponseDto::fromEntity);
-
-        // 결과를 캐시에 저장
-        cacheService.saveFundingsPageToCache(cacheKey, allFundings);
+        // 캐시 미스 시 같은 키의 DB 조회는 한 번만 실행하고 결과를 공유
+        return singleFlightLoader.load(cacheKey,
+                () -> {
+                    Page<FundingResponseDto> cached = cacheService.getFundingsPageFromCache(cacheKey, pageable);
+                    return cached.isEmpty() ? null : cached;
+                },
+                () -> {
+                    // DB에서 조회
+                    Page<FundingResponseDto> allFundings = loadPublicFundingPage(pageable);
+
+                    // 결과를 캐시에 저장
+                    cacheService.saveFundingsPageToCache(cacheKey, allFundings);
+                    return allFundings;
+                });
+    }
 
-        return allFundings;
+    /**
+     * 공개 펀딩 목록을 SELECT 한 번으로 조회합니다.
+     * 페이지 정보의 전체 개수는 COUNT 쿼리 대신 공개 펀딩 카운터 값을 사용합니다.
+     *
+     * @param pageable 페이지 정보
+     * @return 공개 펀딩 페이지
+     */
+    private Page<FundingResponseDto> loadPublicFundingPage(Pageable pageable) {
+        List<FundingResponseDto> content = fundingRepository.findPublicFundingList(pageable).stream()
+                .map(FundingResponseDto::fromQueryDto)
+                .toList();
+        return new PageImpl<>(content, pageable, publicFundingCounter.getCount());
     }
 
     /**
      * 찾으려고 하는 캐시의 키값을 통해 캐시에서 모든 펀딩 목록을 가져옵니다.
      * 없다면 DB에서 조회합니다.
+     * 커서가 있거나 첫 페이지라면 커서 기반으로 조회합니다.
+     * 커서 없이 page만 전달한 기존 요청은 하위 호환을 위해 OFFSET으로 조회하며, 이 방식은 deprecated입니다.
+     * (뒤 페이지일수록 앞의 행을 모두 읽어야 하므로 클라이언트는 응답의 nextCursor로 다음 페이지를 요청해야 합니다.)
      * @return 현재 등록된 진행중인 펀딩들 페이지네이션 반환
      */
     // Slice - Page 페이지네이션 수정 적용
     @Transactional(readOnly = true)
-    public Slice<FundingResponseDto> getActiveFundings(int page, int size, String sortBy, String sortOrder) {
+    public Slice<FundingResponseDto> getActiveFundings(int page, int size, String sortBy, String sortOrder, String cursor) {
+        if (cursor != null || page == 0) {
+            return getFundingKeysetSlice(CacheService.ACTIVE_FUNDINGS, FundingStatus.ACTIVE, page, size, sortBy, sortOrder, cursor);
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy));
-        String cacheKey = "activeFundings:" + page + ":" + size + ":" + sortBy + ":" + sortOrder;
+        String cacheKey = cacheService.buildFundingListCacheKey(CacheService.ACTIVE_FUNDINGS, sortBy, page + ":" + size + ":" + sortBy + ":" + sortOrder);
 
         // 캐시에서 조회 시도
         Slice<FundingResponseDto> cachedFundings = cacheService.getFundingListFromCache(cacheKey, pageable);
@@ -263,24 +294,26 @@ public class FundingService {
             return cachedFundings;
         }
 
-        // DB에서 조회 및 캐시 저장
-        Slice<FundingResponseDto> activeFundings = fundingRepository.findByStatusAndPublicFlagTrue(FundingStatus.ACTIVE, pageable).map(FundingResponseDto::fromEntity);
-        cacheService.saveFundingListToCache(cacheKey, activeFundings);
-
-        return activeFundings;
+        // 캐시 미스 시 같은 키의 DB 조회는 한 번만 실행하고 결과를 공유
+        return loadFundingSlice(cacheKey, pageable, FundingStatus.ACTIVE);
     }
 
     /**
      * 찾으려고 하는 캐시의 키값을 통해 캐시에서 모든 펀딩 목록을 가져옵니다.
      * 없다면 DB에서 조회합니다.
+     * 커서가 있거나 첫 페이지라면 커서 기반으로 조회합니다.
+     * 커서 없이 page만 전달한 기존 요청은 하위 호환을 위해 OFFSET으로 조회하며, 이 방식은 deprecated입니다.
      * @return 현재 등록된 완료된 펀딩들 페이지네이션 반환
      */
     // 완료된 펀딩 페이지네이션 적용
     // 완료된 펀딩 조회
     @Transactional(readOnly = true)
-    public Slice<FundingResponseDto> getFinishedFundings(int page, int size, String sortBy, String sortOrder) {
+    public Slice<FundingResponseDto> getFinishedFundings(int page, int size, String sortBy, String sortOrder, String cursor) {
+        if (cursor != null || page == 0) {
+            return getFundingKeysetSlice(CacheService.FINISHED_FUNDINGS, FundingStatus.FINISHED, page, size, sortBy, sortOrder, cursor);
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortOrder.equals("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy));
-        String cacheKey = "finishedFundings:" + page + ":" + size + ":" + sortBy + ":" + sortOrder;
+        String cacheKey = cacheService.buildFundingListCacheKey(CacheService.FINISHED_FUNDINGS, sortBy, page + ":" + size + ":" + sortBy + ":" + sortOrder);
 
         // 캐시에서 조회 시도
         Slice<FundingResponseDto> cachedFundings = cacheService.getFundingListFromCache(cacheKey, pageable);
@@ -288,11 +321,78 @@ public class FundingService {
             return cachedFundings;
         }
 
-        // DB에서 조회 및 캐시 저장
-        Slice<FundingResponseDto> finishedFundings = fundingRepository.findByStatusAndPublicFlagTrue(FundingStatus.FINISHED, pageable).map(FundingResponseDto::fromEntity);
-        cacheService.saveFundingListToCache(cacheKey, finishedFundings);
+        // 캐시 미스 시 같은 키의 DB 조회는 한 번만 실행하고 결과를 공유
+        return loadFundingSlice(cacheKey, pageable, FundingStatus.FINISHED);
+    }
 
-        return finishedFundings;
+    /**
+     * 상태별 공개 펀딩 목록을 커서 기반으로 조회합니다.
+     * 캐시 키에 커서를 포함하여 같은 위치의 요청은 캐시를 공유합니다.
+     *
+     * @param namespace 캐시 네임스페이스
+     * @param status 조회할 펀딩 상태
+     * @param page 클라이언트가 보낸 페이지 번호 (응답의 number로만 사용)
+     * @param size 조회할 개수
+     * @param sortBy 정렬 기준 (FundingSortField에 정의된 값만 허용)
+     * @param sortOrder 정렬 방향
+     * @param cursor 이전 응답의 nextCursor, 첫 페이지는 null
+     * @return 조회된 펀딩 목록과 다음 페이지 커서
+     */
+    private FundingKeysetSlice getFundingKeysetSlice(String namespace, FundingStatus status, int page, int size,
+                                                     String sortBy, String sortOrder, String cursor) {
+        FundingSortField sortField = FundingSortField.from(sortBy);
+        Sort.Direction direction = sortOrder.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+        FundingCursor after = cursor == null ? null : FundingCursor.decode(cursor, sortField, direction);
+        String cacheKey = cacheService.buildFundingListCacheKey(namespace, sortField.getProperty(),
+                "keyset:" + size + ":" + sortField + ":" + direction + ":" + (cursor == null ? "first" : cursor));
+
+        // 캐시에서 조회 시도
+        FundingKeysetSlice cachedFundings = cacheService.getFundingKeysetSliceFromCache(cacheKey, page);
+        if (cachedFundings != null) {
+            return cachedFundings;
+        }
+
+        // 캐시 미스 시 같은 키의 DB 조회는 한 번만 실행하고 결과를 공유
+        return singleFlightLoader.load(cacheKey,
+                () -> cacheService.getFundingKeysetSliceFromCache(cacheKey, page),
+                () -> {
+                    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+                    List<FundingListQueryDto> rows = fundingRepository.findPublicFundingListAfter(
+                            status, sortField, direction, after, size + 1);
+                    boolean hasNext = rows.size() > size;
+                    List<FundingListQueryDto> content = hasNext ? rows.subList(0, size) : rows;
+                    String nextCursor = hasNext
+                            ? FundingCursor.of(sortField, direction, content.get(content.size() - 1)).encode()
+                            : null;
+
+                    FundingKeysetSlice fundings = new FundingKeysetSlice(
+                            content.stream().map(FundingResponseDto::fromQueryDto).toList(), page, size, nextCursor);
+                    cacheService.saveFundingKeysetSliceToCache(cacheKey, fundings);
+                    return fundings;
+                });
+    }
+
+    /**
+     * 상태별 펀딩 목록을 DB에서 조회하여 캐시에 저장합니다.
+     * 같은 캐시 키에 대한 동시 요청은 SingleFlightLoader를 통해 한 번의 조회 결과를 공유합니다.
+     *
+     * @param cacheKey 저장할 캐시 키
+     * @param pageable 페이지 정보
+     * @param status 조회할 펀딩 상태
+     * @return 조회된 펀딩 slice 반환
+     */
+    private Slice<FundingResponseDto> loadFundingSlice(String cacheKey, Pageable pageable, FundingStatus status) {
+        return singleFlightLoader.load(cacheKey,
+                () -> {
+                    Slice<FundingResponseDto> cached = cacheService.getFundingListFromCache(cacheKey, pageable);
+                    return cached.isEmpty() ? null : cached;
+                },
+                () -> {
+                    // DB에서 조회 및 캐시 저장
+                    Slice<FundingResponseDto> fundings = fundingRepository.findPublicFundingListByStatus(status, pageable).map(FundingResponseDto::fromQueryDto);
+                    cacheService.saveFundingListToCache(cacheKey, fundings);
+                    return fundings;
+                });
     }
 
     /**
@@ -352,7 +452,9 @@ public class FundingService {
                 throw new BaseException(BaseResponseStatus.UNAUTHORIZED_UPDATE_FUNDING);
             }
 
+            boolean wasPublic = funding.isPublicFlag();
             funding.update(requestDto); // 펀딩 내용수정
+            publicFundingCounter.changeVisibility(wasPublic, funding.isPublicFlag());
             cacheService.clearFundingCaches(); // 캐시 무효화
             return FundingResponseDto.fromEntity(funding);
         } catch (InterruptedException e) {
@@ -397,6 +499,9 @@ public class FundingService {
             }
 
             fundingRepository.delete(funding);
+            if (funding.isPublicFlag()) {
+                publicFundingCounter.decrease();
+            }
             cacheService.clearFundingCaches(); // 캐시 무효화
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -411,12 +516,10 @@ public class FundingService {
 
     /**
      * 캐시에서 통계 데이터를 조회합니다.
-     * 없다면 DB에서 조회하고, DB에도 없다면 정보를 새로 저장합니다.
-     * 등록된 Funding의 통계 정보를 계산해서 업데이트 합니다.
+     * 없다면 Redis 통계 카운터에서 현재 값을 조회하여 캐시에 저장합니다.
      *
      * @return 등록되어있는 펀딩의 통계 반환
      */
-    @Transactional(readOnly = true)
     public FundingSummaryResponseDto getFundingSummary() {
         // 캐시에서 통계 데이터를 검색합니다.
         FundingSummaryResponseDto cachedSummary = cacheService.getSummaryFromCache();
@@ -424,19 +527,10 @@ public class FundingService {
             return cachedSummary;
         }
 
-        // 캐시에 데이터가 없는 경우, 데이터베이스에서 정보를 계산합니다.
-        FundingSummary fundingSummary = fundingSummaryRepository.findFirstByOrderByIdAsc().orElse(new FundingSummary());
-        long totalDonationsCount = fundingSummary.getTotalDonationsCount();
-        long successfulFundingsCount = fundingSummary.getSuccessfulFundingsCount();
-        long totalFundingAmount = fundingSummary.getTotalFundingAmount();
-
-        // 계산된 통계 정보를 캐시에 저장합니다.
-        FundingSummaryResponseDto summary = FundingSummaryResponseDto.builder()
-                .totalDonationsCount(totalDonationsCount)
-                .successfulFundingsCount(successfulFundingsCount)
-                .totalFundingAmount(totalFundingAmount)
-                .build();
+        // 캐시에 데이터가 없는 경우, Redis 통계 카운터에서 조회합니다.
+        FundingSummaryResponseDto summary = fundingSummaryCounter.getSummary();
 
+        // 조회된 통계 정보를 캐시에 저장합니다.
         cacheService.saveSummaryToCache(summary);
         return summary;
     }
@@ -454,7 +548,7 @@ public class FundingService {
     public FundingItem previewItem(String itemLink) throws IOException {
         log.info("[previewItem] 상품 미리보기");
 
-        Document document = Jsoup.connect(itemLink).timeout(TIMEOUT).get();
+        Document document = linkPreviewFetcher.fetch(itemLink);
         String itemImage = getMetaTagContent(document, "og:image");
         if (itemImage == null) {
             throw new BaseException(BaseResponseStatus.UNABLE_TO_GET_LINK_IMAGE);
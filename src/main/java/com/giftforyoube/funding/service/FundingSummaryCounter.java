@@ -0,0 +1,126 @@
+package com.giftforyoube.funding.service;
+
+import com.giftforyoube.funding.dto.FundingSummaryResponseDto;
+import com.giftforyoube.funding.entity.FundingSummary;
+import com.giftforyoube.funding.repository.FundingSummaryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 펀딩 통계(총 후원 수, 총 후원 금액, 성공한 펀딩 수)를 Redis 카운터로 관리합니다.
+ * 후원마다 FundingSummary 한 행을 읽고 수정하는 대신 INCRBY로 원자적으로 증가시키고,
+ * 주기적으로 DB의 FundingSummary 테이블에 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FundingSummaryCounter {
+
+    private static final String TOTAL_DONATIONS_COUNT_KEY = "fundingSummary:totalDonationsCount";
+    private static final String TOTAL_FUNDING_AMOUNT_KEY = "fundingSummary:totalFundingAmount";
+    private static final String SUCCESSFUL_FUNDINGS_COUNT_KEY = "fundingSummary:successfulFundingsCount";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FundingSummaryRepository fundingSummaryRepository;
+
+    /**
+     * Redis에 카운터가 없다면 DB에 저장된 통계 값으로 초기화합니다.
+     * 여러 인스턴스가 동시에 시작해도 SETNX로 한 번만 설정됩니다.
+     */
+    @PostConstruct
+    void initialize() {
+        FundingSummary summary = findSummary();
+        redisTemplate.opsForValue().setIfAbsent(TOTAL_DONATIONS_COUNT_KEY, String.valueOf(summary.getTotalDonationsCount()));
+        redisTemplate.opsForValue().setIfAbsent(TOTAL_FUNDING_AMOUNT_KEY, String.valueOf(summary.getTotalFundingAmount()));
+        redisTemplate.opsForValue().setIfAbsent(SUCCESSFUL_FUNDINGS_COUNT_KEY, String.valueOf(summary.getSuccessfulFundingsCount()));
+    }
+
+    /**
+     * 후원 발생 시 총 후원 수와 총 후원 금액을 증가시킵니다. (파이프라인으로 한 번의 왕복)
+     *
+     * @param donationAmount 후원 금액
+     */
+    public void increaseDonation(int donationAmount) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().incr(TOTAL_DONATIONS_COUNT_KEY.getBytes(StandardCharsets.UTF_8));
+            connection.stringCommands().incrBy(TOTAL_FUNDING_AMOUNT_KEY.getBytes(StandardCharsets.UTF_8), donationAmount);
+            return null;
+        });
+    }
+
+    /**
+     * 펀딩 성공 시 성공한 펀딩 수를 증가시킵니다.
+     */
+    public void increaseSuccessfulFunding() {
+        redisTemplate.opsForValue().increment(SUCCESSFUL_FUNDINGS_COUNT_KEY);
+    }
+
+    /**
+     * Redis 카운터에서 현재 통계를 조회합니다. (MGET 한 번)
+     *
+     * @return 현재 펀딩 통계
+     */
+    public FundingSummaryResponseDto getSummary() {
+        List<String> values = redisTemplate.opsForValue().multiGet(
+                List.of(TOTAL_DONATIONS_COUNT_KEY, SUCCESSFUL_FUNDINGS_COUNT_KEY, TOTAL_FUNDING_AMOUNT_KEY));
+        if (values == null || values.contains(null)) {
+            initialize();
+            values = redisTemplate.opsForValue().multiGet(
+                    List.of(TOTAL_DONATIONS_COUNT_KEY, SUCCESSFUL_FUNDINGS_COUNT_KEY, TOTAL_FUNDING_AMOUNT_KEY));
+        }
+        return FundingSummaryResponseDto.builder()
+                .totalDonationsCount(toLong(values.get(0)))
+                .successfulFundingsCount(toLong(values.get(1)))
+                .totalFundingAmount(toLong(values.get(2)))
+                .build();
+    }
+
+    /**
+     * Redis 카운터 값을 주기적으로 FundingSummary 테이블에 반영합니다.
+     * 카운터는 절대값이므로 여러 인스턴스가 동시에 반영해도 결과가 같습니다.
+     */
+    @Scheduled(fixedDelayString = "${funding.summary.flush-interval-millis:60000}")
+    @Transactional
+    public void flushToDatabase() {
+        FundingSummary summary = findSummary();
+        summary.setTotalDonationsCount(syncCounter(TOTAL_DONATIONS_COUNT_KEY, summary.getTotalDonationsCount()));
+        summary.setTotalFundingAmount(syncCounter(TOTAL_FUNDING_AMOUNT_KEY, summary.getTotalFundingAmount()));
+        summary.setSuccessfulFundingsCount(syncCounter(SUCCESSFUL_FUNDINGS_COUNT_KEY, summary.getSuccessfulFundingsCount()));
+        fundingSummaryRepository.save(summary);
+    }
+
+    /**
+     * 누적 카운터는 감소할 수 없으므로 Redis 값이 DB 값보다 작다면 Redis 데이터 유실로 판단합니다.
+     * 이 경우 유실 이후 증가분에 DB 값을 더해 카운터를 복구합니다.
+     *
+     * @param key 카운터 키
+     * @param persistedValue DB에 저장된 값
+     * @return DB에 반영할 카운터 값
+     */
+    private long syncCounter(String key, long persistedValue) {
+        long counterValue = toLong(redisTemplate.opsForValue().get(key));
+        if (counterValue < persistedValue) {
+            log.warn("[FundingSummaryCounter] 카운터 유실 감지, DB 값으로 복구: {} (redis={}, db={})", key, counterValue, persistedValue);
+            Long restored = redisTemplate.opsForValue().increment(key, persistedValue);
+            return restored == null ? persistedValue : restored;
+        }
+        return counterValue;
+    }
+
+    private FundingSummary findSummary() {
+        return fundingSummaryRepository.findFirstByOrderByIdAsc().orElse(new FundingSummary());
+    }
+
+    private long toLong(String value) {
+        return value == null ? 0L : Long.parseLong(value);
+    }
+}
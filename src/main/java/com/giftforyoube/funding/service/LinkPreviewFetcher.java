@@ -0,0 +1,72 @@
+package com.giftforyoube.funding.service;
+
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 상품 링크 페이지를 가져오는 크롤러
+ * 크롤링은 linkPreviewTaskExecutor에서 실행되어 동시에 진행되는 외부 사이트 요청 수가 제한됩니다.
+ * 실행기 대기열까지 가득 차면 요청을 기다리게 하지 않고 바로 거절합니다.
+ */
+@Slf4j
+@Component
+public class LinkPreviewFetcher {
+
+    private static final int TIMEOUT = 10000; // 10초
+
+    private final ThreadPoolTaskExecutor linkPreviewExecutor;
+
+    public LinkPreviewFetcher(@Qualifier("linkPreviewTaskExecutor") ThreadPoolTaskExecutor linkPreviewExecutor) {
+        this.linkPreviewExecutor = linkPreviewExecutor;
+    }
+
+    /**
+     * 상품 링크의 HTML 문서를 가져옵니다.
+     *
+     * @param itemLink 가져올 사이트의 링크
+     * @return 파싱된 HTML 문서
+     * @throws IOException 사이트 연결 실패 시
+     * @throws BaseException 동시 크롤링 한도를 넘은 경우
+     */
+    public Document fetch(String itemLink) throws IOException {
+        CompletableFuture<Document> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> connect(itemLink), linkPreviewExecutor);
+        } catch (TaskRejectedException e) {
+            log.warn("[LinkPreviewFetcher] 링크 미리보기 요청 거절: {}", itemLink);
+            throw new BaseException(BaseResponseStatus.LINK_PREVIEW_BUSY);
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private Document connect(String itemLink) {
+        try {
+            return Jsoup.connect(itemLink).timeout(TIMEOUT).get();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
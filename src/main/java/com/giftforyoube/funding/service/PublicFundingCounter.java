@@ -0,0 +1,110 @@
+package com.giftforyoube.funding.service;
+
+import com.giftforyoube.funding.repository.FundingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 공개 펀딩 수를 Redis 카운터로 관리합니다.
+ * 목록 페이지의 전체 개수를 매 요청마다 COUNT(*)로 세는 대신 등록/삭제/공개 여부 변경 시 증감하고,
+ * 증감은 호출한 트랜잭션이 커밋된 뒤에 반영하여 롤백된 변경이 카운터에 남지 않도록 하고,
+ * 그래도 카운터가 어긋날 수 있으므로 (커밋 직후 장애, 회원 탈퇴로 인한 삭제 등) 주기적으로 DB 값으로 다시 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublicFundingCounter {
+
+    private static final String PUBLIC_FUNDINGS_COUNT_KEY = "funding:publicFundingsCount";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final FundingRepository fundingRepository;
+
+    /**
+     * 공개 펀딩이 추가되었을 때 (등록 또는 비공개 → 공개) 카운터를 증가시킵니다.
+     */
+    public void increase() {
+        afterCommit(() -> redisTemplate.opsForValue().increment(PUBLIC_FUNDINGS_COUNT_KEY));
+    }
+
+    /**
+     * 공개 펀딩이 제외되었을 때 (삭제 또는 공개 → 비공개) 카운터를 감소시킵니다.
+     */
+    public void decrease() {
+        afterCommit(() -> redisTemplate.opsForValue().decrement(PUBLIC_FUNDINGS_COUNT_KEY));
+    }
+
+    /**
+     * 공개 여부 변경에 따라 카운터를 조정합니다.
+     *
+     * @param before 변경 전 공개 여부
+     * @param after 변경 후 공개 여부
+     */
+    public void changeVisibility(boolean before, boolean after) {
+        if (!before && after) {
+            increase();
+        } else if (before && !after) {
+            decrease();
+        }
+    }
+
+    /**
+     * 현재 공개 펀딩 수를 조회합니다.
+     * 카운터가 없다면 (최초 실행, Redis 데이터 유실) DB에서 한 번 세어 설정합니다.
+     *
+     * @return 공개 펀딩 수
+     */
+    public long getCount() {
+        String value = redisTemplate.opsForValue().get(PUBLIC_FUNDINGS_COUNT_KEY);
+        if (value == null) {
+            return syncFromDatabase();
+        }
+        return Math.max(0L, Long.parseLong(value));
+    }
+
+    /**
+     * 카운터를 DB의 공개 펀딩 수로 주기적으로 다시 맞춥니다.
+     * 절대값으로 덮어쓰므로 여러 인스턴스가 동시에 실행해도 결과가 같습니다.
+     */
+    @Scheduled(fixedDelayString = "${funding.public-count.refresh-interval-millis:300000}")
+    public void refresh() {
+        syncFromDatabase();
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에 실행하고, 트랜잭션 밖이라면 바로 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updateCount(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                updateCount(action);
+            }
+        });
+    }
+
+    // 이미 커밋된 요청이 카운터 갱신 실패로 실패하지 않도록 로그만 남기고, 카운터는 주기적인 보정으로 맞춤
+    private void updateCount(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.warn("[PublicFundingCounter] 공개 펀딩 수 갱신 실패", e);
+        }
+    }
+
+    private long syncFromDatabase() {
+        long count = fundingRepository.countByPublicFlagTrue();
+        String previous = redisTemplate.opsForValue().getAndSet(PUBLIC_FUNDINGS_COUNT_KEY, String.valueOf(count));
+        if (previous != null && Long.parseLong(previous) != count) {
+            log.info("[PublicFundingCounter] 공개 펀딩 수 보정: {} -> {}", previous, count);
+        }
+        return count;
+    }
+}
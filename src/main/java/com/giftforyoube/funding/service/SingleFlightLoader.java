@@ -0,0 +1,108 @@
+package com.giftforyoube.funding.service;
+
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스 시 같은 캐시 키에 대한 DB 조회를 한 번만 실행하도록 묶어주는 로더 (single-flight)
+ * 인스턴스 내에서는 먼저 도착한 요청이 조회를 실행하고, 나머지 요청은 그 결과를 기다려 공유합니다.
+ * distributed 옵션을 켜면 Redisson 락으로 인스턴스 간에도 조회를 한 번으로 제한합니다.
+ */
+@Slf4j
+@Component
+public class SingleFlightLoader {
+
+    private static final String LOAD_LOCK_PREFIX = "cacheLoadLock:";
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final RedissonClient redissonClient;
+    private final boolean distributed;
+    private final long lockWaitMillis;
+    private final long lockLeaseMillis;
+
+    public SingleFlightLoader(RedissonClient redissonClient,
+                              @Value("${funding.cache.single-flight.distributed:false}") boolean distributed,
+                              @Value("${funding.cache.single-flight.lock-wait-millis:3000}") long lockWaitMillis,
+                              @Value("${funding.cache.single-flight.lock-lease-millis:5000}") long lockLeaseMillis) {
+        this.redissonClient = redissonClient;
+        this.distributed = distributed;
+        this.lockWaitMillis = lockWaitMillis;
+        this.lockLeaseMillis = lockLeaseMillis;
+    }
+
+    /**
+     * 캐시 키 단위로 로딩을 한 번만 실행하고 결과를 공유합니다.
+     *
+     * @param cacheKey 로딩 대상 캐시 키
+     * @param cacheLookup 분산 락 획득 후 다른 인스턴스가 이미 채운 캐시를 확인하는 함수 (미스면 null 반환)
+     * @param loader DB 조회 후 캐시에 저장하고 결과를 반환하는 함수
+     * @return 로딩 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String cacheKey, Supplier<T> cacheLookup, Supplier<T> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(cacheKey, future);
+        if (existing != null) {
+            log.debug("[SingleFlightLoader] 진행중인 로딩 결과 대기: {}", cacheKey);
+            return (T) await(existing);
+        }
+
+        try {
+            T result = distributed ? loadWithLock(cacheKey, cacheLookup, loader) : loader.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, future);
+        }
+    }
+
+    /**
+     * Redisson 락을 획득한 뒤 캐시를 다시 확인하고, 그래도 없을 때만 로딩합니다.
+     * 대기 시간 안에 락을 얻지 못하면 DB 보호보다 응답을 우선하여 직접 로딩합니다.
+     */
+    private <T> T loadWithLock(String cacheKey, Supplier<T> cacheLookup, Supplier<T> loader) {
+        RLock lock = redissonClient.getLock(LOAD_LOCK_PREFIX + cacheKey);
+        boolean lockAcquired = false;
+        try {
+            lockAcquired = lock.tryLock(lockWaitMillis, lockLeaseMillis, TimeUnit.MILLISECONDS);
+            T cached = cacheLookup.get();
+            if (cached != null) {
+                return cached;
+            }
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(BaseResponseStatus.UNABLE_TO_ACQUIRE_ROCK_INTERRUPT);
+        } finally {
+            if (lockAcquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+}
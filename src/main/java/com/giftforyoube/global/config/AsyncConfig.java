@@ -0,0 +1,142 @@
+package com.giftforyoube.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 작업 종류별로 분리된 비동기 실행기 설정
+ * 실행기마다 스레드 수, 대기열 크기, 거절 정책을 따로 두어 한 작업의 적체(예: 메일 발송)가 다른 비동기 작업을 막지 않도록 합니다.
+ * 대기열 길이와 활성 스레드 수는 actuator가 빈 이름별 executor.* 지표로, 작업 대기/실행 시간은 TimedTaskDecorator가 기록합니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${async.default.pool-size:8}")
+    private int defaultPoolSize;
+    @Value("${async.default.queue-capacity:1000}")
+    private int defaultQueueCapacity;
+    @Value("${async.donation.core-pool-size:4}")
+    private int donationCorePoolSize;
+    @Value("${async.donation.max-pool-size:8}")
+    private int donationMaxPoolSize;
+    @Value("${async.donation.queue-capacity:500}")
+    private int donationQueueCapacity;
+    @Value("${async.link-preview.pool-size:8}")
+    private int linkPreviewPoolSize;
+    @Value("${async.link-preview.queue-capacity:50}")
+    private int linkPreviewQueueCapacity;
+    @Value("${notification.sse.delivery-threads:8}")
+    private int sseDeliveryThreads;
+    @Value("${notification.sse.delivery-queue-capacity:100000}")
+    private int sseDeliveryQueueCapacity;
+    @Value("${notification.outbox.relay-parallelism:4}")
+    private int outboxRelayParallelism;
+    @Value("${notification.outbox.batch-size:100}")
+    private int outboxBatchSize;
+    @Value("${mail.dispatch.workers:2}")
+    private int mailDispatchWorkers;
+
+    // 별도 이름이 지정되지 않은 @Async 메서드가 사용하는 기본 실행기
+    @Bean(name = "taskExecutor")
+    public ThreadPoolTaskExecutor taskExecutor() {
+        ThreadPoolTaskExecutor executor = createExecutor("async-", defaultPoolSize, defaultPoolSize,
+                defaultQueueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 후원 승인 후처리 파이프라인 실행기
+    // 큐가 가득 차면 CallerRunsPolicy로 커밋한 요청 스레드에서 직접 실행하여 후처리 적체에 대한 배압을 걸어줌
+    @Bean(name = "donationTaskExecutor")
+    public ThreadPoolTaskExecutor donationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = createExecutor("donation-", donationCorePoolSize, donationMaxPoolSize,
+                donationQueueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 상품 링크 미리보기(외부 사이트 크롤링) 실행기 - 느린 외부 사이트가 요청 스레드를 모두 점유하지 않도록 동시 크롤링 수를 제한
+    // 대기열이 가득 차면 AbortPolicy로 즉시 거절하여 요청에 실패를 반환
+    @Bean(name = "linkPreviewTaskExecutor")
+    public ThreadPoolTaskExecutor linkPreviewTaskExecutor() {
+        ThreadPoolTaskExecutor executor = createExecutor("link-preview-", linkPreviewPoolSize, linkPreviewPoolSize,
+                linkPreviewQueueCapacity, new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 알림 아웃박스 릴레이 실행기 - 스레드 수가 곧 한 배치 안에서의 발송 병렬도
+    @Bean(name = "outboxRelayTaskExecutor")
+    public ThreadPoolTaskExecutor outboxRelayTaskExecutor() {
+        ThreadPoolTaskExecutor executor = createExecutor("outbox-relay-", outboxRelayParallelism, outboxRelayParallelism,
+                outboxBatchSize, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // SSE 전송 실행기 - 연결별 대기열을 소수의 스레드가 번갈아 비움
+    // 요청 스레드가 느린 클라이언트를 기다리지 않도록 CallerRunsPolicy 대신 AbortPolicy를 사용 (거절 시 이벤트는 대기열에 남음)
+    @Bean(name = "sseDeliveryTaskExecutor")
+    public ThreadPoolTaskExecutor sseDeliveryTaskExecutor() {
+        ThreadPoolTaskExecutor executor = createExecutor("sse-delivery-", sseDeliveryThreads, sseDeliveryThreads,
+                sseDeliveryQueueCapacity, new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // 메일 발송 실행기 - MailDispatcher의 워커 스레드 전용 (워커 하나가 스레드 하나를 계속 점유)
+    // 워커는 종료 시까지 실행되므로 작업 시간 기록 대신 MailDispatcher의 mail.dispatch.* 지표를 사용
+    @Bean(name = "mailTaskExecutor")
+    public ThreadPoolTaskExecutor mailTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(mailDispatchWorkers);
+        executor.setMaxPoolSize(mailDispatchWorkers);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("mail-dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return taskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (throwable, method, params) ->
+                log.error("[AsyncConfig] 비동기 작업 실패: {}", method.getName(), throwable);
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize,
+                                                  int queueCapacity, RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        executor.setTaskDecorator(new TimedTaskDecorator(meterRegistry,
+                threadNamePrefix.substring(0, threadNamePrefix.length() - 1)));
+        return executor;
+    }
+}
@@ -0,0 +1,26 @@
+package com.giftforyoube.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate JDBC 배치 설정
+ * 아웃박스 릴레이의 상태 변경처럼 여러 행을 한 번에 수정하는 경우 UPDATE를 묶어서 전송합니다.
+ * IDENTITY로 ID를 생성하는 엔티티는 INSERT마다 생성된 키를 받아와야 하므로 INSERT는 배치되지 않습니다.
+ * (기존 테이블의 ID 생성 방식을 바꾸려면 시퀀스를 기존 최대 ID 이후로 맞추는 마이그레이션이 함께 필요합니다.)
+ * (MySQL에서 실제로 한 번의 왕복으로 전송하려면 JDBC URL에 rewriteBatchedStatements=true가 필요합니다.)
+ */
+@Configuration
+public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.jdbc.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
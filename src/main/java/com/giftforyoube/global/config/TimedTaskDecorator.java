@@ -0,0 +1,42 @@
+package com.giftforyoube.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 작업의 대기 시간(제출 ~ 실행 시작)과 실행 시간을 실행기 이름별로 기록하는 TaskDecorator
+ * 대기열 길이, 활성 스레드 수는 actuator가 ThreadPoolTaskExecutor 빈마다 executor.* 지표로 기록합니다.
+ */
+class TimedTaskDecorator implements TaskDecorator {
+
+    private final Timer waitTimer;
+    private final Timer runTimer;
+
+    TimedTaskDecorator(MeterRegistry meterRegistry, String executorName) {
+        this.waitTimer = Timer.builder("async.task.wait")
+                .description("비동기 작업이 대기열에서 기다린 시간")
+                .tag("executor", executorName)
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("async.task.duration")
+                .description("비동기 작업 실행 시간")
+                .tag("executor", executorName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                runnable.run();
+            } finally {
+                runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+}
@@ -7,15 +7,23 @@ import com.giftforyoube.global.security.UserDetailsServiceImpl;
 import com.giftforyoube.user.repository.UserRepository;
 import com.giftforyoube.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -29,6 +37,7 @@ public class WebSecurityConfig {
     private final AuthenticationConfiguration authenticationConfiguration;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final PasswordEncoder passwordEncoder;
 
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
@@ -47,6 +56,39 @@ public class WebSecurityConfig {
         return new JwtAuthorizationFilter(tokenUtil, userDetailsService, userService);
     }
 
+    /**
+     * actuator 엔드포인트 전용 보안 설정
+     * 아웃박스 재처리처럼 상태를 변경하는 운영 엔드포인트가 있으므로, health를 제외한 모든 엔드포인트는
+     * ADMIN 권한의 운영자 계정(HTTP Basic)만 호출할 수 있습니다. 운영자 비밀번호가 설정되지 않으면 모두 거부됩니다.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http,
+                                                           @Value("${management.admin.username:admin}") String adminUsername,
+                                                           @Value("${management.admin.password:}") String adminPassword) throws Exception {
+        InMemoryUserDetailsManager actuatorUsers = new InMemoryUserDetailsManager();
+        if (!adminPassword.isBlank()) {
+            actuatorUsers.createUser(User.withUsername(adminUsername)
+                    .password(passwordEncoder.encode(adminPassword))
+                    .roles("ADMIN")
+                    .build());
+        }
+
+        http.securityMatcher(EndpointRequest.toAnyEndpoint());
+        http.csrf((csrf) -> csrf.disable());
+        http.sessionManagement((sessionManagement) ->
+                sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+        );
+        http.authorizeHttpRequests((authorizeHttpRequests) ->
+                authorizeHttpRequests
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .anyRequest().hasRole("ADMIN")
+        );
+        http.userDetailsService(actuatorUsers);
+        http.httpBasic(Customizer.withDefaults());
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.csrf((csrf) -> csrf.disable());
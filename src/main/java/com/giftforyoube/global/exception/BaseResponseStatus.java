@@ -89,6 +89,9 @@ public enum BaseResponseStatus {
     UNABLE_TO_GET_LINK_IMAGE(false, 4319, "링크 상품 이미지를 가져올 수 없습니다."),
     SERIALIZING_ERROR(false, 4320, "직열화하는 과정에서 오류가 발생했습니다."),
     DESERIALIZING_ERROR(false, 4321, "역직열화하는 과정에서 오류가 발생했습니다."),
+    LINK_PREVIEW_BUSY(false, 4322, "링크 미리보기 요청이 많아 처리할 수 없습니다."),
+    INVALID_FUNDING_SORT(false, 4323, "지원하지 않는 정렬 기준입니다."),
+    INVALID_FUNDING_CURSOR(false, 4324, "잘못된 페이지 커서입니다."),
 
 
     // 2-4. 후원
@@ -115,6 +118,7 @@ public enum BaseResponseStatus {
 
     // 3-1. 이메일
     EMAIL_SEND_FAILED(false, 5100, "이메일 전송에 실패했습니다."),
+    EMAIL_QUEUE_FULL(false, 5101, "이메일 발송 대기열이 가득 찼습니다."),
 
     // 3-2. 알림
     NOTIFICATION_SEND_FAILED(false, 5200, "알림 전송에 실패했습니다."),
@@ -0,0 +1,87 @@
+package com.giftforyoube.notification.entity;
+
+import com.giftforyoube.global.entity.Auditable;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 발송할 알림을 비즈니스 변경과 같은 트랜잭션에 기록하는 아웃박스
+ * NotificationOutboxRelay가 PENDING 상태의 행을 읽어 SSE/이메일로 발송합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_notification_outbox_status_id", columnList = "status, id"))
+public class NotificationOutbox extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long receiverId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType notificationType;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    private String url;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    private int attempts;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime processedAt;
+
+    // 재시도 대기 - 이 시각 이후에 다시 릴레이 대상이 됨 (null이면 즉시)
+    private LocalDateTime nextAttemptAt;
+
+    @Builder
+    public NotificationOutbox(Long receiverId, NotificationType notificationType, String content, String url) {
+        this.receiverId = receiverId;
+        this.notificationType = notificationType;
+        this.content = content;
+        this.url = url;
+        this.status = OutboxStatus.PENDING;
+    }
+
+    public void markSent() {
+        this.status = OutboxStatus.SENT;
+        this.processedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 발송 실패를 기록합니다. 재시도 한도에 도달하면 FAILED로 전환되어 더 이상 릴레이되지 않습니다.
+     * 그 전까지는 시도 횟수에 따라 지수적으로 늘어나는 대기 시간 이후에 재시도됩니다.
+     *
+     * @param error 실패 사유
+     * @param maxAttempts 최대 발송 시도 횟수
+     * @param retryBackoff 첫 재시도 대기 시간
+     * @param maxRetryBackoff 최대 재시도 대기 시간
+     */
+    public void markFailed(String error, int maxAttempts, Duration retryBackoff, Duration maxRetryBackoff) {
+        this.attempts++;
+        this.lastError = error == null ? null : error.substring(0, Math.min(error.length(), 1000));
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+            this.processedAt = LocalDateTime.now();
+            return;
+        }
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(this.attempts - 1, 20));
+        this.nextAttemptAt = LocalDateTime.now().plus(backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff);
+    }
+}
@@ -0,0 +1,7 @@
+package com.giftforyoube.notification.entity;
+
+public enum OutboxStatus {
+    PENDING, // 발송 대기
+    SENT, // 발송 완료
+    FAILED // 재시도 한도 초과로 발송 실패
+}
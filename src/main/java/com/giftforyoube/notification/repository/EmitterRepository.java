@@ -1,24 +1,29 @@
 package com.giftforyoube.notification.repository;
 
-import com.giftforyoube.notification.entity.Notification;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface EmitterRepository {
 
-    // emitter 저장
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
+    // SSE 연결 저장
+    SseConnection save(SseConnection connection);
+
+    // SSE 연결 저장 - 현재 인스턴스에서 회원의 첫 연결이라면 true 반환
+    boolean saveAndCheckFirst(SseConnection connection);
 
-    void deleteAllEmitterStartWithId(String emitterId);
+    Map<String, SseConnection> findAllEmitterByUserId(String userId);
 
-    void deleteAllEventCacheStartWithId(String userId);
+    boolean existsByUserId(String userId);
 
-    void deleteById(String emitterId);
+    // 현재 인스턴스에 SSE 연결을 가진 회원 ID 목록
+    Set<String> findAllUserIds();
 
-    Map<String, Object> findAllEventCacheStartWithByUserId(String userId);
+    // 현재 인스턴스의 모든 SSE 연결을 순회
+    void forEachConnection(Consumer<SseConnection> action);
 
-    Map<String, SseEmitter> findAllEmitterStartWithByUserId(String receiverId);
+    int countConnections();
 
-    void saveEventCache(String emitterId, Object event);
+    // 회원의 마지막 연결이 삭제되었다면 true 반환
+    boolean deleteById(String userId, String emitterId);
 }
@@ -1,14 +1,13 @@
 package com.giftforyoube.notification.repository;
 
-import com.giftforyoube.notification.entity.Notification;
-import com.giftforyoube.user.entity.User;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 @Repository
 public class EmitterRepositoryImpl implements EmitterRepository{
@@ -22,62 +21,77 @@ public class EmitterRepositoryImpl implements EmitterRepository{
     // -> 어플리케이션 재시작시 데이터가 손실되지않나? (서버 리부팅, 업데이트 배포 시에)
     // -> 데이터의 지속성에는 Redis가 concurrenthashmap보다 낫다.
     // 테스트단계에서는 괜찮지만 비용측면 고려하여 개발 후기단계에서 redis로 변경 고려
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
+
+    // 회원 ID -> (emitter ID -> SSE 연결) 2단계 구조
+    // 전체 맵을 startsWith로 훑지 않고 회원 ID로 바로 조회하며, a@x.com 이 a@x.com.kr 과 섞이지 않는다.
+    // 재전송용 이벤트는 인스턴스 간 공유를 위해 NotificationEventLog(Redis Stream)에 저장한다.
+    private final Map<String, Map<String, SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
 
 
     @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
-        return sseEmitter;
+    public SseConnection save(SseConnection connection) {
+        saveAndCheckFirst(connection);
+        return connection;
     }
 
-    @Override   // event 저장
-    public void saveEventCache(String eventCacheId, Object event) {
+    // 삭제와 동시에 실행되어도 연결이 비어있는 맵과 함께 사라지지 않도록 compute로 원자적으로 처리
+    // compute 안에서는 메모리 변경만 하고, 첫 연결 여부는 호출한 쪽에서 원자 구간 밖에서 처리
+    @Override
+    public boolean saveAndCheckFirst(SseConnection connection) {
+        AtomicBoolean first = new AtomicBoolean();
+        connections.compute(connection.getUserId(), (key, userConnections) -> {
+            Map<String, SseConnection> result = userConnections == null ? new ConcurrentHashMap<>() : userConnections;
+            first.set(result.isEmpty());
+            if (result.put(connection.getEmitterId(), connection) == null) {
+                connectionCount.incrementAndGet();
+            }
+            return result;
+        });
+        return first.get();
+    }
 
-        eventCache.put(eventCacheId, event);
+    // 회원과 관련된 모든 SSE 연결을 찾는다.
+    @Override
+    public Map<String, SseConnection> findAllEmitterByUserId(String userId) {
+        Map<String, SseConnection> userConnections = connections.get(userId);
+        return userConnections == null ? Map.of() : Map.copyOf(userConnections);
     }
 
-    @Override   // 구분자로 회원 ID를 사용하기에 StartWith를 사용 - 회원과 관련된 모든 emitter를 찾는다.
-    public Map<String, SseEmitter> findAllEmitterStartWithByUserId(String UserId) {
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(UserId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    @Override
+    public boolean existsByUserId(String userId) {
+        return connections.containsKey(userId);
     }
 
-    // 회원에게 수신된 모든 이벤트를 찾는다.
     @Override
-    public Map<String, Object> findAllEventCacheStartWithByUserId(String UserId) {
-        return eventCache.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(UserId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public Set<String> findAllUserIds() {
+        return Set.copyOf(connections.keySet());
     }
 
     @Override
-    public void deleteById(String id) {
-        emitters.remove(id);
+    public void forEachConnection(Consumer<SseConnection> action) {
+        connections.values().forEach(userConnections -> userConnections.values().forEach(action));
     }
 
-    // 해당 회원과 관련된 모든 emitter를 지움
     @Override
-    public void deleteAllEmitterStartWithId(String userId) {
-        emitters.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(userId)) {
-                        emitters.remove(key);
-                        deleteAllEventCacheStartWithId(userId);
-                    }
-                }
-        );
+    public int countConnections() {
+        return connectionCount.get();
     }
 
-    // 해당 회원과 관련된 모든 이벤트를 지움
+    // 해당 연결만 정확히 지움
     @Override
-    public void deleteAllEventCacheStartWithId(String userID) {
-        eventCache.forEach(
-                (key, emitter) -> {
-                    if (key.startsWith(userID)) { eventCache.remove(key); }
-                }
-        );
+    public boolean deleteById(String userId, String emitterId) {
+        AtomicBoolean lastRemoved = new AtomicBoolean();
+        connections.computeIfPresent(userId, (key, userConnections) -> {
+            if (userConnections.remove(emitterId) != null) {
+                connectionCount.decrementAndGet();
+            }
+            if (userConnections.isEmpty()) {
+                lastRemoved.set(true);
+                return null;
+            }
+            return userConnections;
+        });
+        return lastRemoved.get();
     }
 }
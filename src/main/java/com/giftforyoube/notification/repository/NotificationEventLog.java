@@ -0,0 +1,118 @@
+package com.giftforyoube.notification.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * SSE 재전송을 위한 회원별 이벤트 로그 (Redis Stream: notificationEvents:{userId})
+ * 모든 인스턴스가 공유하므로 클라이언트가 어느 인스턴스로 재연결해도 Last-Event-ID 이후의 이벤트를 받을 수 있습니다.
+ * 이벤트 ID는 Redis Stream ID({millis}-{seq})로, 단조 증가하며 정렬 가능합니다.
+ * 스트림은 회원별 최대 개수(MAXLEN ~)로 제한되고, 최대 보관 시간보다 오래된 이벤트는 재전송하지 않습니다.
+ */
+@Repository
+public class NotificationEventLog {
+
+    private static final String EVENT_LOG_KEY_PREFIX = "notificationEvents:";
+    private static final byte[] DATA_FIELD = "data".getBytes(StandardCharsets.UTF_8);
+    private static final Pattern STREAM_ID_PATTERN = Pattern.compile("\\d+-\\d+");
+    private static final String EMPTY_STREAM_ID = "0-0";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long maxEventsPerUser;
+    private final Duration maxEventAge;
+
+    public NotificationEventLog(RedisTemplate<String, String> redisTemplate,
+                                @Value("${notification.event-log.max-size-per-user:100}") long maxEventsPerUser,
+                                @Value("${notification.event-log.max-age-seconds:3600}") long maxEventAgeSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.maxEventsPerUser = maxEventsPerUser;
+        this.maxEventAge = Duration.ofSeconds(maxEventAgeSeconds);
+    }
+
+    /**
+     * 회원의 이벤트 로그에 이벤트를 추가합니다.
+     *
+     * @param userId 회원 ID
+     * @param payload 직렬화된 이벤트 데이터
+     * @return 발급된 이벤트 ID
+     */
+    public String append(String userId, String payload) {
+        String key = buildKey(userId);
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        MapRecord<byte[], byte[], byte[]> record = StreamRecords
+                .rawBytes(Map.of(DATA_FIELD, payload.getBytes(StandardCharsets.UTF_8)))
+                .withStreamKey(rawKey);
+        RedisStreamCommands.XAddOptions options = RedisStreamCommands.XAddOptions
+                .maxlen(maxEventsPerUser)
+                .approximateTrimming(true);
+        RecordId recordId = redisTemplate.execute((RedisCallback<RecordId>) connection ->
+                connection.streamCommands().xAdd(record, options));
+        // 새 이벤트가 없는 회원의 로그는 보관 시간이 지나면 통째로 만료
+        redisTemplate.expire(key, maxEventAge);
+        return recordId.getValue();
+    }
+
+    /**
+     * lastEventId 이후(제외)의 이벤트를 ID 순으로 조회합니다.
+     * 형식이 올바르지 않은 ID(이전 형식의 email_millis 등)는 무시하고 빈 결과를 반환합니다.
+     *
+     * @param userId 회원 ID
+     * @param lastEventId 클라이언트가 마지막으로 수신한 이벤트 ID
+     * @return 이벤트 ID -> 직렬화된 이벤트 데이터
+     */
+    public Map<String, String> findAllAfter(String userId, String lastEventId) {
+        if (!isValidEventId(lastEventId)) {
+            return Map.of();
+        }
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(
+                buildKey(userId),
+                Range.of(Range.Bound.exclusive(lastEventId), Range.Bound.unbounded()),
+                Limit.limit().count((int) maxEventsPerUser));
+
+        long minTimestamp = System.currentTimeMillis() - maxEventAge.toMillis();
+        Map<String, String> events = new LinkedHashMap<>();
+        if (records != null) {
+            for (MapRecord<String, Object, Object> record : records) {
+                if (record.getId().getTimestamp() >= minTimestamp) {
+                    events.put(record.getId().getValue(), (String) record.getValue().get("data"));
+                }
+            }
+        }
+        return events;
+    }
+
+    /**
+     * 회원의 가장 최근 이벤트 ID를 조회합니다. 이벤트가 없다면 0-0을 반환합니다.
+     *
+     * @param userId 회원 ID
+     * @return 가장 최근 이벤트 ID
+     */
+    public String findLatestEventId(String userId) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().reverseRange(
+                buildKey(userId), Range.unbounded(), Limit.limit().count(1));
+        return records == null || records.isEmpty() ? EMPTY_STREAM_ID : records.get(0).getId().getValue();
+    }
+
+    private boolean isValidEventId(String eventId) {
+        return eventId != null && STREAM_ID_PATTERN.matcher(eventId).matches();
+    }
+
+    private String buildKey(String userId) {
+        return EVENT_LOG_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,47 @@
+package com.giftforyoube.notification.repository;
+
+import com.giftforyoube.notification.entity.NotificationOutbox;
+import com.giftforyoube.notification.entity.NotificationType;
+import com.giftforyoube.notification.entity.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 릴레이 대상 배치 조회 - 재시도 대기 시간이 지난 행만, 묶음 발송 대상 유형은 묶음 발송 창(window)이 지난 행만 포함
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.status = :status " +
+            "AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now) " +
+            "AND (o.notificationType <> :coalescedType OR o.createdAt <= :coalesceCutoff) ORDER BY o.id ASC")
+    List<NotificationOutbox> findRelayBatch(@Param("status") OutboxStatus status,
+                                            @Param("now") LocalDateTime now,
+                                            @Param("coalescedType") NotificationType coalescedType,
+                                            @Param("coalesceCutoff") LocalDateTime coalesceCutoff,
+                                            Pageable pageable);
+
+    // 묶음 발송할 수신자들의 대기중인 알림 조회 - 재시도 대기중인 행은 제외
+    @Query("SELECT o FROM NotificationOutbox o WHERE o.status = :status AND o.notificationType = :notificationType " +
+            "AND o.receiverId IN :receiverIds AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now) ORDER BY o.id ASC")
+    List<NotificationOutbox> findPendingByReceiverIds(@Param("status") OutboxStatus status,
+                                                      @Param("notificationType") NotificationType notificationType,
+                                                      @Param("receiverIds") Collection<Long> receiverIds,
+                                                      @Param("now") LocalDateTime now,
+                                                      Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+
+    // 실패한 아웃박스를 다시 발송 대기 상태로 전환 (재처리 도구용)
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = com.giftforyoube.notification.entity.OutboxStatus.PENDING, " +
+            "o.attempts = 0, o.processedAt = null, o.nextAttemptAt = null " +
+            "WHERE o.status = com.giftforyoube.notification.entity.OutboxStatus.FAILED AND o.id >= :fromId")
+    int requeueFailed(@Param("fromId") Long fromId);
+}
@@ -0,0 +1,123 @@
+package com.giftforyoube.notification.repository;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 연결 하나와 그 연결로 보낼 이벤트 대기열
+ * 이벤트는 호출 스레드에서 바로 쓰지 않고 대기열에 쌓은 뒤 SseDeliveryEngine이 전송 스레드에서 순서대로 씁니다.
+ */
+@Getter
+public class SseConnection {
+
+    private final String userId;
+    private final String emitterId;
+    private final SseEmitter emitter;
+    private final long connectedAt = System.currentTimeMillis();
+
+    private final Queue<OutboundEvent> queue = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size()는 O(n)이므로 개수와 바이트 수를 별도로 관리
+    private final AtomicInteger queuedEvents = new AtomicInteger();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    // 진행중인 쓰기의 시작 시각 (쓰기 중이 아니면 0)
+    private volatile long writeStartedAt;
+    private volatile long lastWriteAt = connectedAt;
+
+    public SseConnection(String userId, String emitterId, SseEmitter emitter) {
+        this.userId = userId;
+        this.emitterId = emitterId;
+        this.emitter = emitter;
+    }
+
+    /**
+     * 대기열에 이벤트를 추가합니다.
+     *
+     * @return 대기열 한도를 넘었다면 false (느린 소비자)
+     */
+    public boolean offer(OutboundEvent event, int maxQueuedEvents, long maxQueuedBytes) {
+        if (queuedEvents.get() >= maxQueuedEvents || queuedBytes.get() + event.bytes() > maxQueuedBytes) {
+            return false;
+        }
+        queue.offer(event);
+        queuedEvents.incrementAndGet();
+        queuedBytes.addAndGet(event.bytes());
+        return true;
+    }
+
+    public OutboundEvent poll() {
+        OutboundEvent event = queue.poll();
+        if (event != null) {
+            queuedEvents.decrementAndGet();
+            queuedBytes.addAndGet(-event.bytes());
+        }
+        return event;
+    }
+
+    public boolean hasQueuedEvents() {
+        return !queue.isEmpty();
+    }
+
+    // 한 연결은 동시에 하나의 전송 스레드만 쓰도록 보장
+    public boolean tryStartDraining() {
+        return draining.compareAndSet(false, true);
+    }
+
+    public void finishDraining() {
+        draining.set(false);
+    }
+
+    public void markWriteStarted() {
+        writeStartedAt = System.currentTimeMillis();
+    }
+
+    public void markWriteFinished() {
+        lastWriteAt = System.currentTimeMillis();
+        writeStartedAt = 0;
+    }
+
+    // 처음 닫는 호출에서만 true 반환
+    public boolean close() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        queue.clear();
+        queuedEvents.set(0);
+        queuedBytes.set(0);
+        return true;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public long getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    public int getQueuedEvents() {
+        return queuedEvents.get();
+    }
+
+    /**
+     * 전송 대기중인 이벤트 - 데이터는 미리 직렬화되어 크기를 알고 있습니다.
+     * 이벤트 ID가 없는 이벤트는 하트비트(SSE 주석)로 전송됩니다.
+     */
+    public record OutboundEvent(String eventId, String payload, int bytes) {
+
+        public static OutboundEvent heartbeat(String comment) {
+            return new OutboundEvent(null, comment, comment.length());
+        }
+
+        public boolean isHeartbeat() {
+            return eventId == null;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.giftforyoube.notification.service;
+
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메일 발송 엔진
+ * 발송할 메일은 크기가 제한된 대기열에 쌓이고, mailTaskExecutor의 워커들이 대기열을 비우며 발송합니다.
+ * 워커는 대기중인 메일을 배치로 꺼내 send(MimeMessage...) 한 번으로 보내므로 배치 안에서는 SMTP 연결이 재사용됩니다.
+ * 초당 발송 수를 제한하고, 일시적으로 실패한 메일은 지수 백오프로 재시도합니다.
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private static final long POLL_TIMEOUT_MILLIS = 500;
+
+    private final JavaMailSender javaMailSender;
+    private final ThreadPoolTaskExecutor mailExecutor;
+    private final BlockingQueue<MimeMessage> queue;
+    private final int workers;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final long intervalNanos;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final AtomicLong nextSendAt = new AtomicLong(System.nanoTime());
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private volatile boolean running;
+
+    public MailDispatcher(JavaMailSender javaMailSender,
+                          @Qualifier("mailTaskExecutor") ThreadPoolTaskExecutor mailExecutor,
+                          MeterRegistry meterRegistry,
+                          @Value("${mail.dispatch.queue-capacity:10000}") int queueCapacity,
+                          @Value("${mail.dispatch.workers:2}") int workers,
+                          @Value("${mail.dispatch.batch-size:50}") int batchSize,
+                          @Value("${mail.dispatch.offer-timeout-millis:5000}") long offerTimeoutMillis,
+                          @Value("${mail.dispatch.max-per-second:10}") int maxPerSecond,
+                          @Value("${mail.dispatch.max-attempts:3}") int maxAttempts,
+                          @Value("${mail.dispatch.backoff-millis:1000}") long backoffMillis) {
+        this.javaMailSender = javaMailSender;
+        this.mailExecutor = mailExecutor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / maxPerSecond;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.sentCounter = dispatchedCounter(meterRegistry, "sent");
+        this.failedCounter = dispatchedCounter(meterRegistry, "failed");
+        Gauge.builder("mail.dispatch.queued", queue, BlockingQueue::size)
+                .description("발송 대기중인 메일 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            mailExecutor.execute(this::work);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+    }
+
+    /**
+     * 메일을 발송 대기열에 추가합니다.
+     * 대기열이 가득 차면 제한 시간 동안 기다리며, 그래도 자리가 없으면 예외를 발생시킵니다.
+     *
+     * @param message 발송할 메일
+     * @throws BaseException 대기열이 가득 찬 경우
+     */
+    public void submit(MimeMessage message) {
+        try {
+            if (!queue.offer(message, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new BaseException(BaseResponseStatus.EMAIL_QUEUE_FULL);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(BaseResponseStatus.EMAIL_QUEUE_FULL);
+        }
+    }
+
+    // 종료 시에는 대기열에 남은 메일을 모두 발송한 뒤 워커를 끝냄
+    private void work() {
+        List<MimeMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                MimeMessage first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                sendWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[MailDispatcher] 메일 발송 워커 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 메일 배치를 한 번의 SMTP 연결로 발송하고, 실패한 메일만 골라 백오프 후 재시도합니다.
+     */
+    private void sendWithRetry(List<MimeMessage> batch) throws InterruptedException {
+        List<MimeMessage> pending = batch;
+        for (int attempt = 1; ; attempt++) {
+            acquire(pending.size());
+            try {
+                javaMailSender.send(pending.toArray(MimeMessage[]::new));
+                sentCounter.increment(pending.size());
+                return;
+            } catch (MailSendException e) {
+                // 배치 중 실패한 메일만 재시도 대상 (연결 실패 시에는 배치 전체)
+                List<MimeMessage> failed = failedMessages(e, pending);
+                sentCounter.increment(pending.size() - failed.size());
+                pending = failed;
+                if (!retry(attempt, pending.size(), e)) {
+                    return;
+                }
+            } catch (MailException e) {
+                if (!retry(attempt, pending.size(), e)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean retry(int attempt, int failedCount, MailException e) throws InterruptedException {
+        if (attempt >= maxAttempts) {
+            failedCounter.increment(failedCount);
+            log.error("[MailDispatcher] 메일 {}건 발송 최종 실패", failedCount, e);
+            return false;
+        }
+        long backoff = backoffMillis << (attempt - 1);
+        log.warn("[MailDispatcher] 메일 {}건 발송 실패, {}ms 후 재시도 ({}회차)", failedCount, backoff, attempt);
+        Thread.sleep(backoff);
+        return true;
+    }
+
+    private List<MimeMessage> failedMessages(MailSendException e, List<MimeMessage> pending) {
+        if (e.getFailedMessages().isEmpty()) {
+            return pending;
+        }
+        List<MimeMessage> failed = new ArrayList<>();
+        e.getFailedMessages().keySet().forEach(message -> {
+            if (message instanceof MimeMessage mimeMessage) {
+                failed.add(mimeMessage);
+            }
+        });
+        return failed;
+    }
+
+    /**
+     * 초당 발송 수 제한 - 발송 가능한 다음 시각을 예약하고 그 시각까지 기다립니다.
+     * 여러 워커가 함께 사용해도 전체 발송 속도가 제한됩니다.
+     */
+    private void acquire(int permits) throws InterruptedException {
+        long now = System.nanoTime();
+        long reservedAt = nextSendAt.getAndAccumulate(permits * intervalNanos,
+                (next, cost) -> Math.max(next, now) + cost);
+        long waitNanos = Math.max(reservedAt, now) - now;
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private Counter dispatchedCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("mail.dispatch.messages")
+                .description("메일 발송 엔진에서 처리된 메일 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
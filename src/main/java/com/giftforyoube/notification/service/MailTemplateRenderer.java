@@ -0,0 +1,58 @@
+package com.giftforyoube.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.util.Map;
+
+/**
+ * 메일 템플릿 렌더러
+ * 알림 메일은 수신자와 무관하게 같은 HTML이 만들어지므로, 템플릿 이름과 변수 조합을 키로 렌더링 결과를 캐시합니다.
+ * 인증 코드처럼 메일마다 달라지는 변수는 renderUncached로 렌더링하여 캐시를 오염시키지 않습니다.
+ */
+@Component
+public class MailTemplateRenderer {
+
+    private final SpringTemplateEngine templateEngine;
+    private final Cache<RenderKey, String> renderedTemplates;
+
+    public MailTemplateRenderer(SpringTemplateEngine templateEngine,
+                                @Value("${mail.template.cache.maximum-size:100}") long maximumSize) {
+        this.templateEngine = templateEngine;
+        this.renderedTemplates = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 템플릿을 렌더링합니다. 같은 템플릿과 변수 조합은 한 번만 렌더링됩니다.
+     *
+     * @param template 템플릿 이름
+     * @param variables 템플릿 변수 (변경하지 않는 값만 전달)
+     * @return 렌더링된 HTML
+     */
+    public String render(String template, Map<String, Object> variables) {
+        RenderKey key = new RenderKey(template, Map.copyOf(variables));
+        return renderedTemplates.get(key, k -> renderUncached(k.template(), k.variables()));
+    }
+
+    /**
+     * 캐시를 사용하지 않고 템플릿을 렌더링합니다.
+     *
+     * @param template 템플릿 이름
+     * @param variables 템플릿 변수
+     * @return 렌더링된 HTML
+     */
+    public String renderUncached(String template, Map<String, Object> variables) {
+        Context context = new Context();
+        context.setVariables(variables);
+        return templateEngine.process(template, context);
+    }
+
+    private record RenderKey(String template, Map<String, Object> variables) {
+    }
+}
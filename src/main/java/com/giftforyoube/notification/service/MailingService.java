@@ -3,6 +3,7 @@ package com.giftforyoube.notification.service;
 import com.giftforyoube.global.exception.BaseException;
 import com.giftforyoube.global.exception.BaseResponseStatus;
 import com.giftforyoube.notification.entity.Notification;
+import com.giftforyoube.notification.entity.NotificationType;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
@@ -10,11 +11,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
+import java.util.Map;
 import java.util.Random;
 
 @Component
@@ -22,13 +21,14 @@ import java.util.Random;
 public class MailingService {
 
     private final JavaMailSender javaMailSender;
-    private final SpringTemplateEngine templateEngine;
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final MailDispatcher mailDispatcher;
     private static final String EMAIL_TITLE_PREFIX = "[Giftipie] ";
 
     @Value("${spring.mail.username}")
     private String senderEmail;
 
-    @Async
+    // 알림 메일은 MailDispatcher 대기열에 추가되어 워커가 배치로 발송
     public void sendNotificationEmail(Notification notification) throws MessagingException {
         MimeMessage message = javaMailSender.createMimeMessage();
         MimeMessageHelper messageHelper = new MimeMessageHelper(message, true, "UTF-8");
@@ -39,22 +39,8 @@ public class MailingService {
         // 메일 받는 사람 설정
         messageHelper.setTo(notification.getReceiver().getEmail());
 
-        // 템플릿에 전달할 데이터 설정
-        Context context = new Context();
-
-        String html = "";
-        // 메일 내용
-        switch (notification.getNotificationType()) {
-            case DONATION :
-                html = templateEngine.process("EmailTemplateDonation", context);
-                break;
-            case FUNDING_SUCCESS :
-                html = templateEngine.process("EmailTemplateFundingSuccess", context);
-                break;
-            case FUNDING_TIME_OUT :
-                html = templateEngine.process("EmailTemplateTimeOut", context);
-                break;
-        }
+        // 메일 내용 - 알림 메일은 수신자와 무관하게 같으므로 캐시된 렌더링 결과 사용
+        String html = mailTemplateRenderer.render(getTemplateName(notification.getNotificationType()), Map.of());
 
         messageHelper.setText(html, true);
 
@@ -62,8 +48,16 @@ public class MailingService {
 //        messageHelper.addInline("logo", new ClassPathResource("templates/images/image-2.png"));
 //        messageHelper.addInline("notice-icon", new ClassPathResource("templates/images/image-1.png"));
 
-        // 메일 전송
-        javaMailSender.send(message);
+        // 메일 발송 대기열에 추가
+        mailDispatcher.submit(message);
+    }
+
+    private String getTemplateName(NotificationType notificationType) {
+        return switch (notificationType) {
+            case DONATION -> "EmailTemplateDonation";
+            case FUNDING_SUCCESS -> "EmailTemplateFundingSuccess";
+            case FUNDING_TIME_OUT -> "EmailTemplateTimeOut";
+        };
     }
 
     ////////////////////////////////////////////////////////////////
@@ -87,16 +81,15 @@ public class MailingService {
         // 이메일 받는 사람
         helper.setTo(mail);
 
-        // 템플릿에 전달할 데이터
-        Context context = new Context();
-        context.setVariable("authenticationCode", authenticationCode); // 추가된부분
+        // 템플릿에 전달할 데이터 - 인증 코드는 메일마다 다르므로 캐시하지 않음
+        Map<String, Object> variables = Map.of("authenticationCode", authenticationCode);
 
 //        String body = "";
 //        body += "<h3>" + "안녕하세요. 기프티파이입니다." + "</h3>";
 //        body += "<h3>" + "요청하신 인증 번호 입니다." + "</h3>";
 //        body += "<h1>" + authenticationCode + "</h1>";
 //        body += "<h3>" + "감사합니다!" + "</h3>";
-        String htmlContent = templateEngine.process("EmailTemplateSignup", context);
+        String htmlContent = mailTemplateRenderer.renderUncached("EmailTemplateSignup", variables);
 
         helper.setText(htmlContent, true);
 
@@ -0,0 +1,109 @@
+package com.giftforyoube.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import com.giftforyoube.notification.repository.NotificationEventLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 여러 인스턴스에 분산된 SSE 연결로 알림을 전달합니다.
+ * 각 인스턴스는 자신만의 Redis 토픽(sseDelivery:{nodeId})을 구독하고,
+ * SsePresence의 회원별 접속 인스턴스 목록을 보고 해당 회원의 연결을 가진 인스턴스에만 메시지를 발행합니다.
+ * 따라서 인스턴스는 자신이 연결을 가지지 않은 회원의 메시지를 받지 않습니다.
+ * 전달 전에 이벤트를 NotificationEventLog에 기록하여 어느 인스턴스에서든 재전송할 수 있도록 합니다.
+ */
+@Slf4j
+@Component
+public class NotificationBroker {
+
+    private static final String DELIVERY_TOPIC_PREFIX = "sseDelivery:";
+
+    private final RedissonClient redissonClient;
+    private final ObjectMapper objectMapper;
+    private final NotificationEventLog notificationEventLog;
+    private final SsePresence ssePresence;
+    private final SseDeliveryEngine sseDeliveryEngine;
+    private RTopic deliveryTopic;
+    private int listenerId;
+
+    public NotificationBroker(RedissonClient redissonClient,
+                              ObjectMapper objectMapper,
+                              NotificationEventLog notificationEventLog,
+                              SsePresence ssePresence,
+                              SseDeliveryEngine sseDeliveryEngine) {
+        this.redissonClient = redissonClient;
+        this.objectMapper = objectMapper;
+        this.notificationEventLog = notificationEventLog;
+        this.ssePresence = ssePresence;
+        this.sseDeliveryEngine = sseDeliveryEngine;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        String topicName = DELIVERY_TOPIC_PREFIX + ssePresence.getNodeId();
+        deliveryTopic = redissonClient.getTopic(topicName, StringCodec.INSTANCE);
+        listenerId = deliveryTopic.addListener(String.class, (channel, message) -> onMessage(message));
+        log.info("[NotificationBroker] SSE 전달 토픽 구독: {}", topicName);
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        deliveryTopic.removeListener(listenerId);
+    }
+
+    /**
+     * 알림을 회원의 이벤트 로그에 기록하고, 회원의 연결을 가진 모든 인스턴스로 전달합니다.
+     * 데이터는 한 번만 JSON으로 직렬화되어 이벤트 로그, 모든 인스턴스, 연결이 공유합니다.
+     *
+     * @param userId 회원 ID
+     * @param data 전송할 데이터
+     * @return 발급된 이벤트 ID
+     */
+    public String publish(String userId, Object data) {
+        String payload = toJson(data);
+        String eventId = notificationEventLog.append(userId, payload);
+        Set<String> nodes = ssePresence.findNodes(userId);
+        String message = null;
+        for (String node : nodes) {
+            if (ssePresence.getNodeId().equals(node)) {
+                sseDeliveryEngine.deliverToUser(userId, eventId, payload);
+                continue;
+            }
+            if (message == null) {
+                message = toJson(new DeliveryMessage(userId, eventId, payload));
+            }
+            redissonClient.getTopic(DELIVERY_TOPIC_PREFIX + node, StringCodec.INSTANCE).publish(message);
+        }
+        return eventId;
+    }
+
+    private void onMessage(String message) {
+        try {
+            DeliveryMessage deliveryMessage = objectMapper.readValue(message, DeliveryMessage.class);
+            sseDeliveryEngine.deliverToUser(deliveryMessage.userId(), deliveryMessage.eventId(), deliveryMessage.payload());
+        } catch (JsonProcessingException e) {
+            log.error("[NotificationBroker] 전달 메시지 파싱 실패: {}", message, e);
+        }
+    }
+
+    private String toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new BaseException(BaseResponseStatus.FAIL_TO_JSON);
+        }
+    }
+
+    record DeliveryMessage(String userId, String eventId, String payload) {
+    }
+}
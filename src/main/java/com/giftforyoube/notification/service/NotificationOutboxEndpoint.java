@@ -0,0 +1,50 @@
+package com.giftforyoube.notification.service;
+
+import com.giftforyoube.notification.entity.OutboxStatus;
+import com.giftforyoube.notification.repository.NotificationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 알림 아웃박스 운영 도구 (actuator 엔드포인트: /actuator/notificationoutbox)
+ * 상태별 건수를 조회하고, FAILED 상태의 알림을 다시 발송 대기 상태로 되돌릴 수 있습니다.
+ * actuator 경로는 WebSecurityConfig에서 ADMIN 권한으로 제한됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "notificationoutbox")
+public class NotificationOutboxEndpoint {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+
+    @ReadOperation
+    public Map<OutboxStatus, Long> statusCounts() {
+        Map<OutboxStatus, Long> counts = new EnumMap<>(OutboxStatus.class);
+        for (OutboxStatus status : OutboxStatus.values()) {
+            counts.put(status, notificationOutboxRepository.countByStatus(status));
+        }
+        return counts;
+    }
+
+    /**
+     * FAILED 상태의 알림을 PENDING으로 되돌려 릴레이가 다시 발송하도록 합니다.
+     *
+     * @param fromId 이 ID 이상의 알림만 재처리 (없으면 전체)
+     * @return 재처리 대상으로 전환된 알림 수
+     */
+    @WriteOperation
+    public int replay(@Nullable Long fromId) {
+        int requeued = notificationOutboxRepository.requeueFailed(fromId == null ? 0L : fromId);
+        log.info("[NotificationOutboxEndpoint] 실패한 알림 {}건 재처리 요청", requeued);
+        return requeued;
+    }
+}
@@ -0,0 +1,225 @@
+package com.giftforyoube.notification.service;
+
+import com.giftforyoube.notification.entity.NotificationOutbox;
+import com.giftforyoube.notification.entity.NotificationType;
+import com.giftforyoube.notification.entity.OutboxStatus;
+import com.giftforyoube.notification.repository.NotificationOutboxRepository;
+import com.giftforyoube.user.entity.User;
+import com.giftforyoube.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스에 기록된 알림을 주기적으로 읽어 SSE 및 이메일로 발송합니다.
+ * 여러 인스턴스 중 Redisson 락을 획득한 하나의 인스턴스만 릴레이하며,
+ * 한 배치 안의 알림은 outboxRelayTaskExecutor에서 병렬로 발송합니다.
+ * 발송에 실패한 알림은 시도 횟수에 따라 늘어나는 대기 시간 이후 재시도되고, 최대 시도 횟수를 넘으면 FAILED로 남습니다.
+ * 인기 펀딩에 후원이 몰리는 경우를 위해 후원 알림은 수신자별로 묶음 발송 창 동안 모아 한 번에 발송합니다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private static final String RELAY_LOCK_KEY = "notificationOutboxRelayLock";
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final RedissonClient redissonClient;
+    private final ThreadPoolTaskExecutor relayExecutor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final Counter coalescedCounter;
+    private final Timer batchTimer;
+    private final Duration donationWindow;
+    private final int maxCoalesced;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository notificationOutboxRepository,
+                                   UserRepository userRepository,
+                                   NotificationService notificationService,
+                                   RedissonClient redissonClient,
+                                   @Qualifier("outboxRelayTaskExecutor") ThreadPoolTaskExecutor relayExecutor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${notification.outbox.batch-size:100}") int batchSize,
+                                   @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+                                   @Value("${notification.outbox.donation-window-millis:10000}") long donationWindowMillis,
+                                   @Value("${notification.outbox.max-coalesced:100}") int maxCoalesced,
+                                   @Value("${notification.outbox.retry-backoff-millis:5000}") long retryBackoffMillis,
+                                   @Value("${notification.outbox.max-retry-backoff-millis:300000}") long maxRetryBackoffMillis) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.userRepository = userRepository;
+        this.notificationService = notificationService;
+        this.redissonClient = redissonClient;
+        this.relayExecutor = relayExecutor;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.sentCounter = relayedCounter(meterRegistry, "sent");
+        this.retryCounter = relayedCounter(meterRegistry, "retry");
+        this.failedCounter = relayedCounter(meterRegistry, "failed");
+        this.coalescedCounter = Counter.builder("notification.outbox.coalesced")
+                .description("묶음 알림으로 합쳐져 발송된 후원 알림 수")
+                .register(meterRegistry);
+        this.donationWindow = Duration.ofMillis(donationWindowMillis);
+        this.maxCoalesced = maxCoalesced;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMillis);
+        this.maxRetryBackoff = Duration.ofMillis(maxRetryBackoffMillis);
+        this.batchTimer = Timer.builder("notification.outbox.relay.batch")
+                .description("아웃박스 배치 릴레이 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.relay-interval-millis:1000}")
+    public void relay() {
+        RLock lock = redissonClient.getLock(RELAY_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            // 배치가 가득 찼고 모두 처리되었다면 남은 알림이 있을 수 있으므로 바로 다음 배치를 처리
+            boolean hasMore;
+            do {
+                hasMore = batchTimer.record(this::relayBatch);
+            } while (hasMore);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * PENDING 상태의 알림 한 배치를 발송하고 결과를 기록합니다.
+     * 후원 알림은 묶음 발송 창이 지난 뒤 발송 대상이 되며, 이때 같은 수신자의 대기중인 후원 알림을 모두 모아 한 번에 발송합니다.
+     *
+     * @return 이어서 다음 배치를 처리해야 하면 true
+     */
+    private boolean relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> batch = notificationOutboxRepository.findRelayBatch(
+                OutboxStatus.PENDING, now, NotificationType.DONATION, now.minus(donationWindow), PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return false;
+        }
+        List<NotificationOutbox> relayed = withPendingDonations(batch, now);
+
+        // 수신자는 배치 단위로 한 번에 조회
+        List<Long> receiverIds = relayed.stream().map(NotificationOutbox::getReceiverId).distinct().toList();
+        Map<Long, User> receivers = userRepository.findAllById(receiverIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        // 후원 알림은 수신자별로 묶고, 나머지 알림은 한 건씩 발송
+        Map<Long, List<NotificationOutbox>> donationsByReceiver = relayed.stream()
+                .filter(outbox -> outbox.getNotificationType() == NotificationType.DONATION)
+                .collect(Collectors.groupingBy(NotificationOutbox::getReceiverId, LinkedHashMap::new, Collectors.toList()));
+        List<List<NotificationOutbox>> groups = new ArrayList<>(donationsByReceiver.values());
+        relayed.stream()
+                .filter(outbox -> outbox.getNotificationType() != NotificationType.DONATION)
+                .forEach(outbox -> groups.add(List.of(outbox)));
+
+        List<CompletableFuture<Boolean>> results = groups.stream()
+                .map(group -> CompletableFuture.supplyAsync(() -> dispatch(group, receivers.get(group.get(0).getReceiverId())), relayExecutor))
+                .toList();
+        boolean allSent = results.stream().map(CompletableFuture::join).reduce(true, Boolean::logicalAnd);
+
+        notificationOutboxRepository.saveAll(relayed);
+        log.info("[NotificationOutboxRelay] 알림 {}건 릴레이 완료 (발송 {}건)", relayed.size(), groups.size());
+        return allSent && batch.size() == batchSize;
+    }
+
+    /**
+     * 배치에 포함된 후원 알림 수신자의 다른 대기중인 후원 알림을 배치에 추가합니다.
+     * 묶음 발송 창이 아직 지나지 않은 알림도 함께 발송되어, 수신자별로 창 하나당 한 번만 발송됩니다.
+     * 한 묶음은 수신자별 최대 maxCoalesced건으로 제한하고, 넘치는 알림은 다음 배치에서 발송합니다.
+     */
+    private List<NotificationOutbox> withPendingDonations(List<NotificationOutbox> batch, LocalDateTime now) {
+        Map<Long, Integer> donationCounts = new HashMap<>();
+        batch.stream()
+                .filter(outbox -> outbox.getNotificationType() == NotificationType.DONATION)
+                .forEach(outbox -> donationCounts.merge(outbox.getReceiverId(), 1, Integer::sum));
+        if (donationCounts.isEmpty()) {
+            return batch;
+        }
+        Map<Long, NotificationOutbox> relayed = new LinkedHashMap<>();
+        batch.forEach(outbox -> relayed.put(outbox.getId(), outbox));
+        notificationOutboxRepository.findPendingByReceiverIds(OutboxStatus.PENDING, NotificationType.DONATION,
+                        donationCounts.keySet(), now, PageRequest.of(0, maxCoalesced * donationCounts.size()))
+                .forEach(outbox -> {
+                    if (!relayed.containsKey(outbox.getId()) && donationCounts.get(outbox.getReceiverId()) < maxCoalesced) {
+                        relayed.put(outbox.getId(), outbox);
+                        donationCounts.merge(outbox.getReceiverId(), 1, Integer::sum);
+                    }
+                });
+        return new ArrayList<>(relayed.values());
+    }
+
+    /**
+     * 알림 한 건 또는 같은 수신자의 후원 알림 묶음을 발송하고 아웃박스 상태를 갱신합니다.
+     *
+     * @return 발송 성공 여부
+     */
+    private boolean dispatch(List<NotificationOutbox> group, User receiver) {
+        try {
+            if (receiver == null) {
+                throw new IllegalStateException("수신자를 찾을 수 없습니다. receiverId=" + group.get(0).getReceiverId());
+            }
+            if (group.size() > 1) {
+                notificationService.sendDonationDigest(receiver, group);
+                coalescedCounter.increment(group.size());
+            } else {
+                NotificationOutbox outbox = group.get(0);
+                notificationService.send(receiver, outbox.getNotificationType(), outbox.getContent(), outbox.getUrl());
+            }
+            group.forEach(NotificationOutbox::markSent);
+            sentCounter.increment(group.size());
+            return true;
+        } catch (RuntimeException e) {
+            group.forEach(outbox -> markFailed(outbox, e));
+            return false;
+        }
+    }
+
+    private void markFailed(NotificationOutbox outbox, RuntimeException e) {
+        outbox.markFailed(e.getMessage(), maxAttempts, retryBackoff, maxRetryBackoff);
+        if (outbox.getStatus() == OutboxStatus.FAILED) {
+            failedCounter.increment();
+            log.error("[NotificationOutboxRelay] 알림 발송 최종 실패: outboxId={}", outbox.getId(), e);
+        } else {
+            retryCounter.increment();
+            log.warn("[NotificationOutboxRelay] 알림 발송 실패, {}에 재시도: outboxId={}, attempts={}",
+                    outbox.getNextAttemptAt(), outbox.getId(), outbox.getAttempts());
+        }
+    }
+
+    private Counter relayedCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("notification.outbox.relayed")
+                .description("아웃박스에서 릴레이된 알림 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
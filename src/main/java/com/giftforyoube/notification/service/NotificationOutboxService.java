@@ -0,0 +1,52 @@
+package com.giftforyoube.notification.service;
+
+import com.giftforyoube.notification.entity.NotificationOutbox;
+import com.giftforyoube.notification.entity.NotificationType;
+import com.giftforyoube.notification.repository.NotificationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 알림을 아웃박스 테이블에 기록합니다.
+ * 호출자의 트랜잭션 안에서만 기록하여 비즈니스 변경이 커밋될 때 알림도 함께 커밋되고,
+ * 롤백되면 알림도 함께 사라지도록 합니다.
+ */
+@Slf4j
+@Service
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final Counter enqueuedCounter;
+
+    public NotificationOutboxService(NotificationOutboxRepository notificationOutboxRepository,
+                                     MeterRegistry meterRegistry) {
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.enqueuedCounter = Counter.builder("notification.outbox.enqueued")
+                .description("아웃박스에 기록된 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발송할 알림을 아웃박스에 기록합니다.
+     *
+     * @param receiverId 알림을 받을 사용자 ID
+     * @param notificationType 알림의 유형
+     * @param content 알림에 포함될 메시지 내용
+     * @param url 알림과 관련된 자원의 URL
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Long receiverId, NotificationType notificationType, String content, String url) {
+        notificationOutboxRepository.save(NotificationOutbox.builder()
+                .receiverId(receiverId)
+                .notificationType(notificationType)
+                .content(content)
+                .url(url)
+                .build());
+        enqueuedCounter.increment();
+        log.debug("[NotificationOutbox] 알림 기록: receiverId={}, type={}", receiverId, notificationType);
+    }
+}
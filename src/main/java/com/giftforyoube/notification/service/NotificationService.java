@@ -6,9 +6,11 @@ import com.giftforyoube.notification.dto.MessageResponseDto;
 import com.giftforyoube.notification.dto.NotificationResponseDto;
 import com.giftforyoube.notification.dto.SubscribeDummyDto;
 import com.giftforyoube.notification.entity.Notification;
+import com.giftforyoube.notification.entity.NotificationOutbox;
 import com.giftforyoube.notification.entity.NotificationType;
-import com.giftforyoube.notification.repository.EmitterRepository;
+import com.giftforyoube.notification.repository.NotificationEventLog;
 import com.giftforyoube.notification.repository.NotificationRepository;
+import com.giftforyoube.notification.repository.SseConnection;
 import com.giftforyoube.user.entity.User;
 import jakarta.mail.MessagingException;
 import jakarta.servlet.http.HttpServletResponse;
@@ -19,7 +21,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -28,9 +29,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class NotificationService {
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60; // SSE 연결 지속 시간 (1시간)
-    private final EmitterRepository emitterRepository;
     private final NotificationRepository notificationRepository;
     private final MailingService mailingService;
+    private final NotificationBroker notificationBroker;
+    private final NotificationEventLog notificationEventLog;
+    private final SseDeliveryEngine sseDeliveryEngine;
 
     /**
      * 사용자가 SSE(Server-Sent Events)를 통해 실시간 알림을 구독할 수 있도록 합니다.
@@ -49,24 +52,21 @@ public class NotificationService {
         // 사용자별 고유 Emitter ID 생성. 현재 시간을 포함하여 중복 방지
         String emitterId = createTimeIncludeId(username);
 
-        // SseEmitter 객체 생성 및 저장. 기본 타임아웃을 사용하여 자동 연결 종료 관리
-        SseEmitter emitter = emitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+        // SseEmitter 객체 생성 및 등록. 기본 타임아웃을 사용하여 자동 연결 종료 관리
+        // SSE 연결 종료(완료, 시간 초과, 에러) 시 SseDeliveryEngine이 저장소에서 해당 연결 삭제
+        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
+        SseConnection connection = sseDeliveryEngine.connect(username, emitterId, emitter);
 
         // Nginx를 사용하는 환경에서 SSE 버퍼링 문제 해결을 위한 헤더 설정
         response.setHeader("X-Accel-Buffering", "no");
 
-        // SSE 연결 종료(완료, 시간 초과, 에러) 시 Emitter 저장소에서 해당 Emitter 삭제
-        emitter.onCompletion(() -> emitterRepository.deleteAllEmitterStartWithId(emitterId));
-        emitter.onTimeout(() -> emitterRepository.deleteAllEmitterStartWithId(emitterId));
-        emitter.onError((e) -> emitterRepository.deleteAllEmitterStartWithId(emitterId));
-
-        // 신규 이벤트 ID 생성하여 구독 초기화 이벤트 발송
-        String eventId = createTimeIncludeId(username);
-        sendNotification(emitter, eventId, emitterId, new SubscribeDummyDto(username));
+        // 구독 초기화 이벤트 발송 - 회원의 가장 최근 이벤트 ID를 사용하여 이후 재연결 시 그 다음 이벤트부터 재전송
+        String eventId = notificationEventLog.findLatestEventId(username);
+        sseDeliveryEngine.enqueue(connection, eventId, new SubscribeDummyDto(username));
 
         // 클라이언트가 이전에 놓친 이벤트가 있는 경우, 해당 이벤트 재전송. Event 유실을 예방
         if (hasLostData(lastEventId)) {
-            sendLostData(lastEventId, username, emitterId, emitter);
+            sendLostData(lastEventId, username, connection);
         }
         log.info("sse 연결 완료");
         return emitter;
@@ -75,7 +75,7 @@ public class NotificationService {
 
     /**
      * 지정된 사용자에게 알림을 전송합니다. 이 메서드는 먼저 알림을 데이터베이스에 저장하고,
-     * 해당 사용자의 모든 SSE Emitter에 알림을 전송합니다.
+     * NotificationBroker를 통해 해당 사용자의 연결을 가진 모든 인스턴스의 SSE Emitter에 알림을 전송합니다.
      * 사용자가 이메일 알림 수신에 동의한 경우, 이메일로도 알림을 발송합니다.
      *
      * @param receiver 알림을 받을 사용자 객체
@@ -91,26 +91,15 @@ public class NotificationService {
         Notification notification = createNotification(receiver, notificationType, content, url);
         Notification saveNotification = notificationRepository.save(notification);
 
-        // 알림을 받을 사용자의 ID를 기반으로 고유 이벤트 ID 생성
+        // 이벤트 로그에 기록하여 이벤트 ID를 발급받고, 해당 사용자의 연결을 가진 모든 인스턴스로 알림 전송
         String receiverId = receiver.getEmail();
-        String eventId = receiverId + "_" + System.currentTimeMillis();
-
-        // 해당 사용자의 모든 SSE Emitter 검색
-        Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartWithByUserId(receiverId);
-
-        // 각 Emitter에 알림 전송 및 이벤트 캐시에 저장하여 연결 중단 시 재전송 가능하게 함
-        emitters.forEach(
-                (emitterId, emitter) -> {
-                    emitterRepository.saveEventCache(emitterId, saveNotification);
-                    sendNotification(emitter, eventId, emitterId, new MessageResponseDto(
-                            saveNotification.getId(),
-                            saveNotification.getContent(),
-                            saveNotification.getUrl(),
-                            saveNotification.getNotificationType(),
-                            saveNotification.getIsRead(),
-                            saveNotification.getCreatedAt()));
-                }
-        );
+        notificationBroker.publish(receiverId, new MessageResponseDto(
+                saveNotification.getId(),
+                saveNotification.getContent(),
+                saveNotification.getUrl(),
+                saveNotification.getNotificationType(),
+                saveNotification.getIsRead(),
+                saveNotification.getCreatedAt()));
         log.info("메세지 전송 완료");
 
         // 사용자가 이메일 알림 수신에 동의한 경우, 이에일로 알림 발송
@@ -124,6 +113,50 @@ public class NotificationService {
         }
     }
 
+    /**
+     * 같은 수신자에게 짧은 시간 동안 쌓인 후원 알림을 한 번에 발송합니다.
+     * 알림 목록에는 후원별 알림이 모두 저장되지만, SSE 이벤트와 이메일은 묶음 알림 한 건으로 발송됩니다.
+     *
+     * @param receiver 알림을 받을 사용자 객체
+     * @param donations 묶어서 발송할 후원 알림 아웃박스 목록 (발생 순서)
+     * @throws BaseException 이메일 발송 실패 시 예외 발생
+     */
+    public void sendDonationDigest(User receiver, List<NotificationOutbox> donations) {
+        log.info("후원 알림 {}건 묶음 전송 시작...", donations.size());
+
+        // 후원별 알림을 한 번의 saveAll로 저장
+        List<Notification> notifications = notificationRepository.saveAll(donations.stream()
+                .map(donation -> createNotification(receiver, NotificationType.DONATION, donation.getContent(), donation.getUrl()))
+                .toList());
+
+        // 가장 최근 알림을 기준으로 묶음 알림 한 건만 전송
+        Notification latest = notifications.get(notifications.size() - 1);
+        String digestContent = createDonationDigestContent(notifications.size());
+        notificationBroker.publish(receiver.getEmail(), new MessageResponseDto(
+                latest.getId(),
+                digestContent,
+                latest.getUrl(),
+                NotificationType.DONATION,
+                latest.getIsRead(),
+                latest.getCreatedAt()));
+        log.info("후원 알림 묶음 전송 완료");
+
+        // 이메일도 묶음 알림 한 통만 발송
+        if (receiver.getIsEmailNotificationAgreed()) {
+            log.info("후원 알림 묶음 이메일 발송 시작");
+            try {
+                mailingService.sendNotificationEmail(createNotification(
+                        receiver, NotificationType.DONATION, digestContent, latest.getUrl().getUrl()));
+            } catch (MessagingException e) {
+                throw new BaseException(BaseResponseStatus.EMAIL_SEND_FAILED);
+            }
+        }
+    }
+
+    private String createDonationDigestContent(int donationCount) {
+        return String.format("회원님 펀딩에 %d건의 새로운 후원이 도착했습니다!", donationCount);
+    }
+
     /**
      * 사용자에게 보낼 알림 객체를 생성합니다.
      *
@@ -149,14 +182,11 @@ public class NotificationService {
      *
      * @param lastEventId 사용자가 마지막으로 수신한 이벤트의 ID
      * @param username 사용자의 이름
-     * @param emitterId 이벤트를 전송할 SseEmitter의 ID
-     * @param emitter 이벤트를 전송할 SseEmitter 객체
+     * @param connection 이벤트를 전송할 SSE 연결
      */
-    private void sendLostData(String lastEventId, String username, String emitterId, SseEmitter emitter) {
-        Map<String, Object> eventCaches = emitterRepository.findAllEventCacheStartWithByUserId(username); // 이벤트 캐시 조회
-        eventCaches.entrySet().stream()
-                .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0) // 놓친 이벤트 필터링
-                .forEach(entry -> sendNotification(emitter, entry.getKey(), emitterId, entry.getValue())); // 놓친 이벤트 전송
+    private void sendLostData(String lastEventId, String username, SseConnection connection) {
+        Map<String, String> events = notificationEventLog.findAllAfter(username, lastEventId); // 놓친 이벤트 조회 (Redis Stream)
+        events.forEach((eventId, event) -> sseDeliveryEngine.enqueue(connection, eventId, event)); // 놓친 이벤트 전송
     }
 
     /**
@@ -169,30 +199,6 @@ public class NotificationService {
         return !lastEventId.isEmpty();
     }
 
-    /**
-     * 주어진 SseEmitter를 사용하여 알림을 전송합니다.
-     * 전송 중 오류가 발생하면, 해당 emitter를 삭제하고 예외를 발생시킵니다.
-     *
-     * @param emitter 알림을 전송할 SseEmitter 객체
-     * @param eventId 알림 이벤트의 ID
-     * @param emitterId 알림을 전송할 SseEmitter의 ID
-     * @param data 전송할 데이터
-     * @throws BaseException 알림 전송 실패 시
-     */
-    private void sendNotification(SseEmitter emitter, String eventId, String emitterId, Object data) {
-        try {
-            emitter.send(SseEmitter.event()
-                    .id(eventId)
-                    .name("sse")
-                    .data(data)
-            );
-        } catch (IOException exception) {
-            emitterRepository.deleteById(emitterId);
-//            throw new BaseException(BaseResponseStatus.NOTIFICATION_SEND_FAILED);
-            throw new RuntimeException("sse send failed" + exception);
-        }
-    }
-
     /**
      * 사용자명과 현재 시간을 결합하여 고유한 ID를 생성합니다.
      * 이 ID는 알림이나 이벤트의 식별자로 사용될 수 있습니다.
@@ -0,0 +1,353 @@
+package com.giftforyoube.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.giftforyoube.global.exception.BaseException;
+import com.giftforyoube.global.exception.BaseResponseStatus;
+import com.giftforyoube.notification.repository.EmitterRepository;
+import com.giftforyoube.notification.repository.SseConnection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 전송 엔진
+ * 이벤트는 연결별 대기열에 쌓이고 sseDeliveryTaskExecutor의 전송 스레드가 연결마다 하나씩 순서대로 씁니다.
+ * 따라서 느린 클라이언트가 있어도 알림을 발생시킨 요청 스레드는 기다리지 않습니다.
+ * 대기열 한도를 넘는 느린 소비자와 쓰기 제한 시간을 넘긴 연결은 끊습니다.
+ * 프록시가 유휴 연결을 끊지 않도록 하트비트(SSE 주석)를 보내며, 하트비트는 연결을 여러 버킷으로 나누어 시간에 걸쳐 분산합니다.
+ */
+@Slf4j
+@Component
+public class SseDeliveryEngine {
+
+    private static final String EVENT_NAME = "sse";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final EmitterRepository emitterRepository;
+    private final SsePresence ssePresence;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor deliveryExecutor;
+    private final int maxQueuedEvents;
+    private final long maxQueuedBytes;
+    private final long writeTimeoutMillis;
+    private final long heartbeatIntervalMillis;
+    private final int heartbeatBuckets;
+    private final AtomicLong heartbeatTick = new AtomicLong();
+    private final Timer sendTimer;
+    private final Map<EvictionReason, Counter> evictionCounters = new EnumMap<>(EvictionReason.class);
+
+    public SseDeliveryEngine(EmitterRepository emitterRepository,
+                             SsePresence ssePresence,
+                             ObjectMapper objectMapper,
+                             @Qualifier("sseDeliveryTaskExecutor") ThreadPoolTaskExecutor deliveryExecutor,
+                             MeterRegistry meterRegistry,
+                             @Value("${notification.sse.max-queued-events:100}") int maxQueuedEvents,
+                             @Value("${notification.sse.max-queued-bytes:1048576}") long maxQueuedBytes,
+                             @Value("${notification.sse.write-timeout-millis:10000}") long writeTimeoutMillis,
+                             @Value("${notification.sse.heartbeat-interval-millis:30000}") long heartbeatIntervalMillis,
+                             @Value("${notification.sse.heartbeat-tick-millis:1000}") long heartbeatTickMillis) {
+        this.emitterRepository = emitterRepository;
+        this.ssePresence = ssePresence;
+        this.objectMapper = objectMapper;
+        this.deliveryExecutor = deliveryExecutor;
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.maxQueuedBytes = maxQueuedBytes;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.heartbeatBuckets = (int) Math.max(1, heartbeatIntervalMillis / heartbeatTickMillis);
+
+        Gauge.builder("notification.sse.connections", emitterRepository, EmitterRepository::countConnections)
+                .description("현재 인스턴스의 SSE 연결 수")
+                .register(meterRegistry);
+        // 전송 대기열 메모리 사용량 - 전체 합계와 가장 많이 쌓인 연결의 값을 함께 노출하여 느린 소비자를 구분
+        Gauge.builder("notification.sse.queued.bytes", emitterRepository, SseDeliveryEngine::sumQueuedBytes)
+                .description("SSE 전송 대기열에 쌓인 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.queued.bytes.max", emitterRepository, SseDeliveryEngine::maxQueuedBytes)
+                .description("SSE 연결 하나의 전송 대기열에 쌓인 최대 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.queued.events", emitterRepository, SseDeliveryEngine::sumQueuedEvents)
+                .description("SSE 전송 대기열에 쌓인 이벤트 수")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("notification.sse.send")
+                .description("SSE 이벤트 한 건의 쓰기 소요 시간")
+                .register(meterRegistry);
+        for (EvictionReason reason : EvictionReason.values()) {
+            evictionCounters.put(reason, Counter.builder("notification.sse.evictions")
+                    .description("강제로 종료된 SSE 연결 수")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * SSE 연결을 등록하고, 연결 종료(완료, 시간 초과, 에러) 시 연결을 정리하도록 설정합니다.
+     *
+     * @param userId 회원 ID
+     * @param emitterId emitter ID
+     * @param emitter SseEmitter 객체
+     * @return 등록된 SSE 연결
+     */
+    public SseConnection connect(String userId, String emitterId, SseEmitter emitter) {
+        SseConnection connection = new SseConnection(userId, emitterId, emitter);
+        // 다른 인스턴스에서 발생한 알림도 전달받을 수 있도록, 현재 인스턴스의 첫 연결일 때만 접속 인스턴스로 등록
+        if (emitterRepository.saveAndCheckFirst(connection)) {
+            syncPresence(userId, true);
+        }
+        emitter.onCompletion(() -> disconnect(connection));
+        emitter.onTimeout(() -> disconnect(connection));
+        emitter.onError((e) -> disconnect(connection));
+        return connection;
+    }
+
+    /**
+     * 현재 인스턴스에 연결된 회원의 모든 SSE 연결로 이벤트를 보냅니다.
+     *
+     * @param userId 회원 ID
+     * @param eventId 이벤트 ID
+     * @param payload 직렬화된 이벤트 데이터
+     */
+    public void deliverToUser(String userId, String eventId, String payload) {
+        emitterRepository.findAllEmitterByUserId(userId)
+                .values()
+                .forEach(connection -> enqueue(connection, eventId, payload));
+    }
+
+    /**
+     * 연결의 대기열에 이벤트를 추가하고 전송을 예약합니다.
+     * 데이터는 한 번만 직렬화되어 크기를 기준으로 대기열 한도를 확인합니다.
+     *
+     * @param connection SSE 연결
+     * @param eventId 이벤트 ID
+     * @param data 전송할 데이터 (String이면 이미 직렬화된 JSON으로 간주)
+     */
+    public void enqueue(SseConnection connection, String eventId, Object data) {
+        String payload = data instanceof String json ? json : toJson(data);
+        offer(connection, new SseConnection.OutboundEvent(
+                eventId, payload, payload.getBytes(StandardCharsets.UTF_8).length));
+    }
+
+    /**
+     * 한 틱마다 하나의 버킷에 속한 연결에만 하트비트를 보내, 하트비트 주기 동안 전체 연결에 고르게 분산합니다.
+     * 하트비트 주기 안에 이미 쓰기가 있었던 연결은 건너뜁니다.
+     * 하트비트 쓰기에 실패하거나 제한 시간을 넘긴 연결은 일반 이벤트와 같이 정리됩니다.
+     */
+    @Scheduled(fixedRateString = "${notification.sse.heartbeat-tick-millis:1000}")
+    public void sendHeartbeats() {
+        int bucket = (int) (heartbeatTick.getAndIncrement() % heartbeatBuckets);
+        long idleSince = System.currentTimeMillis() - heartbeatIntervalMillis;
+        emitterRepository.forEachConnection(connection -> {
+            if (Math.floorMod(connection.getEmitterId().hashCode(), heartbeatBuckets) == bucket
+                    && connection.getLastWriteAt() < idleSince) {
+                offer(connection, SseConnection.OutboundEvent.heartbeat(HEARTBEAT_COMMENT));
+            }
+        });
+    }
+
+    /**
+     * 쓰기가 제한 시간 이상 끝나지 않은 연결을 끊습니다. (죽은 연결 정리)
+     * 블로킹된 쓰기는 중단할 수 없으므로 emitter를 에러로 종료하여 서블릿 비동기 요청을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.write-timeout-check-millis:1000}")
+    public void evictStalledWrites() {
+        long deadline = System.currentTimeMillis() - writeTimeoutMillis;
+        emitterRepository.forEachConnection(connection -> {
+            long writeStartedAt = connection.getWriteStartedAt();
+            if (writeStartedAt != 0 && writeStartedAt < deadline) {
+                evict(connection, EvictionReason.WRITE_TIMEOUT, new TimeoutException());
+            }
+        });
+    }
+
+    private void offer(SseConnection connection, SseConnection.OutboundEvent event) {
+        if (connection.isClosed()) {
+            return;
+        }
+        if (!connection.offer(event, maxQueuedEvents, maxQueuedBytes)) {
+            evict(connection, EvictionReason.SLOW_CONSUMER, new IOException("slow consumer"));
+            return;
+        }
+        scheduleDrain(connection);
+    }
+
+    private void evict(SseConnection connection, EvictionReason reason, Exception cause) {
+        if (connection.isClosed()) {
+            return;
+        }
+        log.warn("[SseDeliveryEngine] SSE 연결 종료: {} - {}", connection.getEmitterId(), reason.getDescription());
+        evictionCounters.get(reason).increment();
+        disconnect(connection);
+        try {
+            connection.getEmitter().completeWithError(cause);
+        } catch (RuntimeException e) {
+            log.debug("[SseDeliveryEngine] 이미 종료된 emitter: {}", connection.getEmitterId());
+        }
+    }
+
+    private void disconnect(SseConnection connection) {
+        if (!connection.close()) {
+            return;
+        }
+        // 현재 인스턴스에 회원의 연결이 하나도 남지 않은 경우에만 접속 인스턴스 목록에서 제거
+        if (emitterRepository.deleteById(connection.getUserId(), connection.getEmitterId())) {
+            syncPresence(connection.getUserId(), false);
+        }
+    }
+
+    /**
+     * 현재 인스턴스의 연결 유무에 맞추어 회원의 접속 인스턴스 등록을 갱신합니다.
+     * Redis 호출은 연결 맵의 원자 구간 밖에서 실행되므로, 호출하는 동안 같은 회원이 재연결하거나 연결을 모두 닫았다면
+     * 바뀐 연결 유무에 맞추어 다시 갱신합니다. (종료중인 연결이 새 연결의 등록을 지운 채로 남지 않음)
+     * 실패하면 로그만 남기고, 남은 등록은 TTL로 만료되며 빠진 등록은 주기적인 갱신에서 다시 추가됩니다.
+     *
+     * @param userId 회원 ID
+     * @param connected 현재 인스턴스에 회원의 연결이 있는지 여부
+     */
+    private void syncPresence(String userId, boolean connected) {
+        while (true) {
+            try {
+                if (connected) {
+                    ssePresence.register(userId);
+                } else {
+                    ssePresence.unregister(userId);
+                }
+            } catch (RuntimeException e) {
+                log.warn("[SseDeliveryEngine] 접속 인스턴스 {} 실패: {}", connected ? "등록" : "제거", userId, e);
+                return;
+            }
+            boolean nowConnected = emitterRepository.existsByUserId(userId);
+            if (nowConnected == connected) {
+                return;
+            }
+            connected = nowConnected;
+        }
+    }
+
+    /**
+     * 현재 인스턴스에 연결된 회원들의 접속 인스턴스 등록을 갱신합니다.
+     * 등록은 회원의 첫 연결에서만 하므로, 연결이 겹쳐 유지되는 회원의 등록이 TTL로 만료되지 않도록 주기적으로 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.presence-refresh-millis:1800000}")
+    public void refreshPresence() {
+        try {
+            ssePresence.registerAll(emitterRepository.findAllUserIds());
+        } catch (RuntimeException e) {
+            log.warn("[SseDeliveryEngine] 접속 인스턴스 갱신 실패", e);
+        }
+    }
+
+    // 연결마다 최대 하나의 전송 작업만 실행되도록 예약
+    private void scheduleDrain(SseConnection connection) {
+        if (!connection.tryStartDraining()) {
+            return;
+        }
+        try {
+            deliveryExecutor.execute(() -> drain(connection));
+        } catch (TaskRejectedException e) {
+            // 전송 스레드가 모두 바쁘면 이벤트는 대기열에 남겨두고 다음 이벤트 추가 시 다시 예약
+            connection.finishDraining();
+            log.warn("[SseDeliveryEngine] 전송 작업 예약 실패, 대기열 유지: {}", connection.getEmitterId());
+        }
+    }
+
+    private void drain(SseConnection connection) {
+        while (true) {
+            SseConnection.OutboundEvent event;
+            while ((event = connection.poll()) != null) {
+                if (!write(connection, event)) {
+                    connection.finishDraining();
+                    return;
+                }
+            }
+            connection.finishDraining();
+            // 전송 작업 종료 직전에 추가된 이벤트가 있다면 이어서 처리
+            if (!connection.hasQueuedEvents() || !connection.tryStartDraining()) {
+                return;
+            }
+        }
+    }
+
+    private boolean write(SseConnection connection, SseConnection.OutboundEvent event) {
+        if (connection.isClosed()) {
+            return false;
+        }
+        connection.markWriteStarted();
+        long startNanos = System.nanoTime();
+        try {
+            SseEmitter.SseEventBuilder builder = event.isHeartbeat()
+                    ? SseEmitter.event().comment(event.payload())
+                    : SseEmitter.event().id(event.eventId()).name(EVENT_NAME).data(event.payload(), MediaType.APPLICATION_JSON);
+            connection.getEmitter().send(builder);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            evict(connection, EvictionReason.SEND_FAILED, e instanceof IOException io ? io : new IOException(e));
+            return false;
+        } finally {
+            sendTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            connection.markWriteFinished();
+        }
+    }
+
+    private String toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new BaseException(BaseResponseStatus.FAIL_TO_JSON);
+        }
+    }
+
+    private static double sumQueuedBytes(EmitterRepository emitterRepository) {
+        AtomicLong queuedBytes = new AtomicLong();
+        emitterRepository.forEachConnection(connection -> queuedBytes.addAndGet(connection.getQueuedBytes()));
+        return queuedBytes.get();
+    }
+
+    private static double maxQueuedBytes(EmitterRepository emitterRepository) {
+        AtomicLong maxBytes = new AtomicLong();
+        emitterRepository.forEachConnection(connection -> maxBytes.accumulateAndGet(connection.getQueuedBytes(), Math::max));
+        return maxBytes.get();
+    }
+
+    private static double sumQueuedEvents(EmitterRepository emitterRepository) {
+        AtomicLong queuedEvents = new AtomicLong();
+        emitterRepository.forEachConnection(connection -> queuedEvents.addAndGet(connection.getQueuedEvents()));
+        return queuedEvents.get();
+    }
+
+    private enum EvictionReason {
+        SLOW_CONSUMER("느린 소비자 (대기열 한도 초과)"),
+        WRITE_TIMEOUT("쓰기 제한 시간 초과"),
+        SEND_FAILED("전송 실패");
+
+        private final String description;
+
+        EvictionReason(String description) {
+            this.description = description;
+        }
+
+        String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.giftforyoube.notification.service;
+
+import lombok.Getter;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 회원별로 SSE 연결을 가진 인스턴스 목록(ssePresence:{userId})을 관리합니다.
+ * NotificationBroker는 이 목록을 보고 해당 회원의 연결을 가진 인스턴스에만 알림을 전달합니다.
+ */
+@Component
+public class SsePresence {
+
+    private static final String PRESENCE_KEY_PREFIX = "ssePresence:";
+    // SSE 연결 지속 시간(1시간)보다 길게 유지하여 재연결 시 갱신되도록 함
+    private static final Duration PRESENCE_TTL = Duration.ofHours(2);
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public SsePresence(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 현재 인스턴스가 회원의 SSE 연결을 가지고 있음을 등록합니다.
+     *
+     * @param userId 회원 ID
+     */
+    public void register(String userId) {
+        String presenceKey = PRESENCE_KEY_PREFIX + userId;
+        redisTemplate.opsForSet().add(presenceKey, nodeId);
+        redisTemplate.expire(presenceKey, PRESENCE_TTL);
+    }
+
+    /**
+     * 여러 회원의 접속 인스턴스 등록을 한 번의 파이프라인으로 갱신합니다.
+     * 연결이 유지되는 동안 등록이 TTL로 만료되지 않도록 주기적으로 호출됩니다.
+     *
+     * @param userIds 현재 인스턴스에 연결된 회원 ID 목록
+     */
+    public void registerAll(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        byte[] node = nodeId.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String userId : userIds) {
+                byte[] presenceKey = (PRESENCE_KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8);
+                connection.setCommands().sAdd(presenceKey, node);
+                connection.keyCommands().expire(presenceKey, PRESENCE_TTL.getSeconds());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 회원의 접속 인스턴스 목록에서 현재 인스턴스를 제거합니다.
+     *
+     * @param userId 회원 ID
+     */
+    public void unregister(String userId) {
+        redisTemplate.opsForSet().remove(PRESENCE_KEY_PREFIX + userId, nodeId);
+    }
+
+    /**
+     * 회원의 SSE 연결을 가진 인스턴스 목록을 조회합니다.
+     *
+     * @param userId 회원 ID
+     * @return 인스턴스 ID 목록
+     */
+    public Set<String> findNodes(String userId) {
+        Set<String> nodes = redisTemplate.opsForSet().members(PRESENCE_KEY_PREFIX + userId);
+        return nodes == null ? Set.of() : nodes;
+    }
+}
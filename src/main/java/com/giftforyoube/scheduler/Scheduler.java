@@ -1,19 +1,20 @@
 package com.giftforyoube.scheduler;
 
-import com.giftforyoube.funding.entity.Funding;
-import com.giftforyoube.funding.entity.FundingStatus;
+import com.giftforyoube.funding.dto.FundingReceiverDto;
 import com.giftforyoube.funding.repository.FundingRepository;
 import com.giftforyoube.funding.service.CacheService;
 import com.giftforyoube.notification.entity.NotificationType;
-import com.giftforyoube.notification.service.NotificationService;
+import com.giftforyoube.notification.service.NotificationOutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j(topic = "Scheduler")
 @Component
@@ -21,33 +22,97 @@ import java.util.List;
 public class Scheduler {
 
     private final FundingRepository fundingRepository;
-    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
     private final CacheService cacheService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${scheduler.auto-finish.chunk-size:500}")
+    private int chunkSize;
+
     // 매일 자정에 실행, 마감일이 지난 펀딩의 상태를 업데이트
     // 초, 분, 시, 일, 월, 주 순서
+    // 마감 대상을 청크 단위로 나누어 청크마다 짧은 트랜잭션으로 처리 (알림 발송은 NotificationOutboxRelay가 병렬로 처리)
     @Scheduled(cron = "0 0 0 * * ?")
-    @CacheEvict(value = {"activeMainFundings", "activeFundings", "finishedFundings", "fundingDetail"}, allEntries = true)
     public void autoFinishFundings() {
         log.info("마감일 종료 상태 업데이트 실행");
         LocalDate currentDate = LocalDate.now();
-//        List<Funding> fundings = fundingRepository.findByEndDateLessThanAndStatus(currentDate, FundingStatus.ACTIVE);
-        List<Funding> fundings = fundingRepository.findByEndDateLessThanEqualAndStatus(currentDate, FundingStatus.ACTIVE);
-        for (Funding funding : fundings) {
-            funding.setStatus(FundingStatus.FINISHED);
-            fundingRepository.save(funding);
+        long startNanos = System.nanoTime();
+        int chunks = 0;
+        int skippedChunks = 0;
+        int finishedFundings = 0;
+        long afterId = 0L;
+
+        try {
+            while (true) {
+                long chunkAfterId = afterId;
+                ChunkResult result = transactionTemplate.execute(status -> {
+                    ChunkResult chunk = finishChunk(currentDate, chunkAfterId);
+                    if (chunk != null && chunk.skipped()) {
+                        status.setRollbackOnly();
+                    }
+                    return chunk;
+                });
+                if (result == null) {
+                    break;
+                }
+                // 이미 처리했거나 건너뛴 청크를 다시 잠그지 않도록 마지막 ID 이후부터 조회
+                afterId = result.lastId();
+                if (result.skipped()) {
+                    skippedChunks++;
+                    continue;
+                }
+                chunks++;
+                finishedFundings += result.finished();
+                log.info("[autoFinishFundings] {}번째 청크 처리 완료 - 누적 {}건 종료 ({}ms)",
+                        chunks, finishedFundings, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            }
+        } finally {
+            // 중간에 실패하더라도 이미 커밋된 청크가 캐시에 진행중으로 남지 않도록 캐시 삭제
+            if (finishedFundings > 0) {
+                cacheService.clearFundingCaches();
+            }
+        }
+        log.info("[autoFinishFundings] 마감일 종료 완료 - {}개 청크, {}건 종료, {}개 청크 건너뜀, 소요 시간 {}ms",
+                chunks, finishedFundings, skippedChunks, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
 
+    /**
+     * 마감 대상 펀딩 한 청크를 잠금 조회한 뒤 한 번의 UPDATE로 종료하고, 알림을 아웃박스에 기록합니다.
+     * 잠금으로 조회한 펀딩은 이 트랜잭션에서만 종료되므로, 알림은 실제로 종료 전환된 펀딩에만 기록됩니다.
+     * 상태 변경과 알림 아웃박스 기록은 같은 트랜잭션으로 처리됩니다.
+     * 종료된 수가 잠금 조회한 수와 다르면 중복 알림을 막기 위해 청크를 건너뛰고 (롤백), 다음 실행에서 다시 처리합니다.
+     *
+     * @param currentDate 기준 날짜
+     * @param afterId 이 ID 이후의 펀딩부터 조회
+     * @return 청크 처리 결과, 더 이상 마감 대상이 없으면 null
+     */
+    private ChunkResult finishChunk(LocalDate currentDate, long afterId) {
+        List<Long> fundingIds = fundingRepository.lockExpiredActiveFundingIds(currentDate, afterId, chunkSize);
+        if (fundingIds.isEmpty()) {
+            return null;
+        }
+        long lastId = fundingIds.get(fundingIds.size() - 1);
+        int finished = fundingRepository.finishAllActive(fundingIds);
+        if (finished != fundingIds.size()) {
+            // 잠금 조회한 행은 모두 ACTIVE이므로 발생하지 않아야 함
+            log.error("[autoFinishFundings] 마감 대상 {}건 중 {}건만 종료되어 청크를 건너뜁니다. (ID {} ~ {})",
+                    fundingIds.size(), finished, fundingIds.get(0), lastId);
+            return new ChunkResult(lastId, 0, true);
+        }
 
+        // 수신자 정보는 청크 단위로 한 번에 조회하여 펀딩 수와 관계없이 청크마다 같은 수의 쿼리만 실행
+        for (FundingReceiverDto receiver : fundingRepository.findReceiversByFundingIds(fundingIds)) {
             // 이메일 수신 동의 했을때
-            if (funding.getUser().getIsEmailNotificationAgreed()) {
-                // 알림메세지 발송
-                log.info("[autoFinishFundings] 펀딩 마감! 펀딩 종료!");
+            if (receiver.isEmailNotificationAgreed()) {
+                // 알림메세지 기록 (NotificationOutboxRelay가 발송)
                 String content = "펀딩 마감일이되어 펀딩이 종료되었습니다.";
-                String url = "https://giftipie.me/fundingdetail/" + funding.getId();
-                NotificationType notificationType = NotificationType.FUNDING_TIME_OUT;
-                notificationService.send(funding.getUser(), notificationType, content, url);
+                String url = "https://giftipie.me/fundingdetail/" + receiver.getFundingId();
+                notificationOutboxService.enqueue(receiver.getReceiverId(), NotificationType.FUNDING_TIME_OUT, content, url);
             }
-
         }
-        cacheService.clearFundingCaches();
+        return new ChunkResult(lastId, finished, false);
+    }
+
+    private record ChunkResult(long lastId, int finished, boolean skipped) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,214 @@
+package com.giftforyoube.donation.service;
+
+import com.giftforyoube.donation.dto.ApproveDonationResponseDto;
+import com.giftforyoube.donation.entity.Donation;
+import com.giftforyoube.donation.event.DonationApprovedEventListener;
+import com.giftforyoube.donation.repository.DonationRepository;
+import com.giftforyoube.funding.entity.Funding;
+import com.giftforyoube.funding.entity.FundingStatus;
+import com.giftforyoube.funding.repository.FundingRepository;
+import com.giftforyoube.funding.service.CacheService;
+import com.giftforyoube.funding.service.FundingSummaryCounter;
+import com.giftforyoube.notification.entity.NotificationOutbox;
+import com.giftforyoube.notification.entity.NotificationType;
+import com.giftforyoube.notification.repository.NotificationOutboxRepository;
+import com.giftforyoube.notification.service.NotificationOutboxService;
+import com.giftforyoube.user.entity.User;
+import com.giftforyoube.user.entity.UserType;
+import com.giftforyoube.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = {
+        "kakaopay.cid=TC0ONETIME",
+        "kakaopay.secret.key=test",
+        "kakaopay.approve.redirect.url=http://localhost/approve",
+        "kakaopay.cancel.redirect.url=http://localhost/cancel",
+        "kakaopay.fail.redirect.url=http://localhost/fail"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({DonationService.class, DonationRankingCounter.class, NotificationOutboxService.class,
+        DonationApprovedEventListener.class, SimpleMeterRegistry.class, DonationServiceTest.SyncExecutorConfig.class})
+class DonationServiceTest {
+
+    private static final int DONATION_COUNT = 1000;
+    private static final int DONATION_AMOUNT = 1000;
+    private static final int THREAD_COUNT = 32;
+
+    @TestConfiguration
+    static class SyncExecutorConfig {
+        // 후처리 파이프라인을 커밋한 스레드에서 바로 실행하여 결과를 검증
+        @Bean(name = "donationTaskExecutor")
+        TaskExecutor donationTaskExecutor() {
+            return new SyncTaskExecutor();
+        }
+    }
+
+    @Autowired
+    private DonationService donationService;
+
+    @Autowired
+    private FundingRepository fundingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @MockBean
+    private RestTemplate restTemplate;
+
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockBean
+    private FundingSummaryCounter fundingSummaryCounter;
+
+    @MockBean
+    private CacheService cacheService;
+
+    private Funding funding;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        User owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .password("password")
+                .nickname("owner")
+                .isEmailNotificationAgreed(false)
+                .userType(UserType.USER)
+                .build());
+
+        funding = Funding.builder()
+                .itemName("item")
+                .title("title")
+                .currentAmount(0)
+                .targetAmount(DONATION_COUNT * DONATION_AMOUNT / 2)
+                .publicFlag(true)
+                .endDate(LocalDate.now().plusDays(7))
+                .status(FundingStatus.ACTIVE)
+                .build();
+        funding.setUser(owner);
+        funding = fundingRepository.save(funding);
+
+        // 카카오페이 승인 응답 설정
+        ApproveDonationResponseDto.Amount amount = new ApproveDonationResponseDto.Amount();
+        ReflectionTestUtils.setField(amount, "total", DONATION_AMOUNT);
+        ApproveDonationResponseDto approveResponse = new ApproveDonationResponseDto();
+        ReflectionTestUtils.setField(approveResponse, "amount", amount);
+        when(restTemplate.exchange(any(RequestEntity.class), eq(ApproveDonationResponseDto.class)))
+                .thenReturn(ResponseEntity.ok(approveResponse));
+
+        // 후원 랭킹 시퀀스 - Redis INCR처럼 원자적으로 증가
+        AtomicLong rankingSequence = new AtomicLong();
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.increment(anyString())).thenAnswer(invocation -> rankingSequence.incrementAndGet());
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationOutboxRepository.deleteAll();
+        donationRepository.deleteAll();
+        fundingRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("approveDonation 동시 호출 시 후원/랭킹/알림/후처리가 모두 한 번씩 반영")
+    void approveDonationConcurrently() throws Exception {
+        // given : 같은 펀딩에 동시에 승인되는 후원 준비
+        Long fundingId = funding.getId();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < DONATION_COUNT; i++) {
+            String sponsorNickname = "sponsor" + i;
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                donationService.approveDonation("tid", "pgToken", sponsorNickname, "comment", fundingId, null);
+                return null;
+            }));
+        }
+
+        // when : 동시에 후원 승인
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        // then : 후원 금액 유실 없이 누적되고 펀딩은 한 번만 종료
+        Funding result = fundingRepository.findById(fundingId).orElseThrow();
+        assertEquals(DONATION_COUNT * DONATION_AMOUNT, result.getCurrentAmount(), "후원 금액 체크완료");
+        assertEquals(FundingStatus.FINISHED, result.getStatus());
+
+        // then : 후원마다 서로 다른 랭킹이 발급되었는지 확인
+        List<Donation> donations = donationRepository.findByFundingId(fundingId);
+        Set<Integer> rankings = donations.stream().map(Donation::getDonationRanking).collect(Collectors.toSet());
+        assertEquals(DONATION_COUNT, donations.size(), "후원 저장 수 체크완료");
+        assertEquals(DONATION_COUNT, rankings.size(), "후원 랭킹 중복 없음 체크완료");
+
+        // then : 후원 알림은 후원마다, 목표 달성 알림은 한 번만 아웃박스에 기록
+        List<NotificationOutbox> outboxes = notificationOutboxRepository.findAll();
+        assertEquals(DONATION_COUNT, outboxes.stream()
+                .filter(outbox -> outbox.getNotificationType() == NotificationType.DONATION).count());
+        assertEquals(1, outboxes.stream()
+                .filter(outbox -> outbox.getNotificationType() == NotificationType.FUNDING_SUCCESS).count());
+
+        // then : 커밋 이후 후처리 파이프라인이 후원마다 실행되었는지 확인
+        verify(fundingSummaryCounter, times(DONATION_COUNT)).increaseDonation(DONATION_AMOUNT);
+        verify(fundingSummaryCounter, times(1)).increaseSuccessfulFunding();
+        verify(cacheService, times(1)).clearFundingCaches();
+        verify(cacheService, times(DONATION_COUNT - 1)).evictFundingCaches(eq(fundingId), anyLong());
+    }
+}
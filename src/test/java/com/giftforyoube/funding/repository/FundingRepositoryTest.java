@@ -0,0 +1,211 @@
+package com.giftforyoube.funding.repository;
+
+import com.giftforyoube.funding.dto.FundingCursor;
+import com.giftforyoube.funding.dto.FundingListQueryDto;
+import com.giftforyoube.funding.dto.FundingResponseDto;
+import com.giftforyoube.funding.dto.FundingSortField;
+import com.giftforyoube.funding.entity.Funding;
+import com.giftforyoube.funding.entity.FundingStatus;
+import com.giftforyoube.user.entity.User;
+import com.giftforyoube.user.entity.UserType;
+import com.giftforyoube.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class FundingRepositoryTest {
+
+    private static final int DONATION_COUNT = 1000;
+    private static final int DONATION_AMOUNT = 1000;
+    private static final int THREAD_COUNT = 32;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private FundingRepository fundingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Funding funding;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(User.builder()
+                .email("owner@example.com")
+                .password("password")
+                .nickname("owner")
+                .isEmailNotificationAgreed(false)
+                .userType(UserType.USER)
+                .build());
+
+        funding = Funding.builder()
+                .itemName("item")
+                .title("title")
+                .currentAmount(0)
+                .targetAmount(DONATION_COUNT * DONATION_AMOUNT / 2)
+                .publicFlag(true)
+                .endDate(LocalDate.now().plusDays(7))
+                .status(FundingStatus.ACTIVE)
+                .build();
+        funding.setUser(owner);
+        funding = fundingRepository.save(funding);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fundingRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 후원 시 후원 금액이 유실되지 않고 종료 전환은 한 번만 감지")
+    void increaseCurrentAmountConcurrently() throws Exception {
+        Long fundingId = funding.getId();
+        AtomicInteger finishCount = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < DONATION_COUNT; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                fundingRepository.increaseCurrentAmount(fundingId, DONATION_AMOUNT);
+                if (fundingRepository.finishIfTargetReached(fundingId) == 1) {
+                    finishCount.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        Funding result = fundingRepository.findById(fundingId).orElseThrow();
+        assertEquals(DONATION_COUNT * DONATION_AMOUNT, result.getCurrentAmount());
+        assertEquals(FundingStatus.FINISHED, result.getStatus());
+        assertEquals(1, finishCount.get());
+    }
+
+    @Test
+    @DisplayName("펀딩 엔티티 조회 시 소유자(User)는 로딩하지 않고 소유자 ID만 사용")
+    void findFundingWithoutLoadingOwner() {
+        Long ownerId = funding.getUser().getId();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // 내 펀딩 정보 조회(FundingService.getMyFundingInfo)와 같은 조회/변환
+        FundingResponseDto myFunding = FundingResponseDto.fromEntity(
+                fundingRepository.findByUserIdAndStatus(ownerId, FundingStatus.ACTIVE));
+        // 펀딩 상세 조회(FundingService.findFunding)와 같은 조회/변환
+        FundingResponseDto detail = FundingResponseDto.fromEntity(
+                fundingRepository.findById(funding.getId()).orElseThrow());
+
+        assertEquals(ownerId, myFunding.getOwnerId());
+        assertEquals(ownerId, detail.getOwnerId());
+        // 펀딩 SELECT만 실행되고, 소유자 User 행은 조회되지 않음 (EAGER였을 때는 소유자를 함께 조회)
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+    }
+
+    @Test
+    @DisplayName("펀딩 목록 프로젝션 조회 시 엔티티를 생성하지 않음")
+    void findPublicFundingListWithoutEntities() {
+        savePublicFundings(PAGE_SIZE - 1);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<FundingResponseDto> page = fundingRepository.findPublicFundingList(PageRequest.of(0, PAGE_SIZE)).stream()
+                .map(FundingResponseDto::fromQueryDto)
+                .toList();
+
+        assertEquals(PAGE_SIZE, page.size());
+        assertTrue(page.stream().allMatch(dto -> dto.getOwnerId() != null));
+        // COUNT 쿼리 없이 목록 SELECT 한 번만 실행되고, Funding/User 엔티티는 하나도 생성되지 않음
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(PAGE_SIZE, fundingRepository.countByPublicFlagTrue());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("커서 기반 펀딩 목록 조회 시 정렬 값이 같아도 누락/중복 없이 모든 펀딩을 순회")
+    void findPublicFundingListAfterCursor() {
+        // 마감일이 모두 같은 공개 펀딩 준비 (setUp의 펀딩 포함 50건)
+        int total = PAGE_SIZE * 2 + 10;
+        savePublicFundings(total - 1);
+
+        Set<Long> visited = new HashSet<>();
+        FundingCursor cursor = null;
+        int pages = 0;
+        do {
+            List<FundingListQueryDto> rows = fundingRepository.findPublicFundingListAfter(
+                    FundingStatus.ACTIVE, FundingSortField.END_DATE, Sort.Direction.DESC, cursor, PAGE_SIZE);
+            rows.forEach(row -> assertTrue(visited.add(row.getId()), "중복 없음 체크완료"));
+            cursor = rows.size() < PAGE_SIZE ? null
+                    : FundingCursor.decode(FundingCursor.of(FundingSortField.END_DATE, Sort.Direction.DESC,
+                    rows.get(rows.size() - 1)).encode(), FundingSortField.END_DATE, Sort.Direction.DESC);
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(total, visited.size(), "누락 없음 체크완료");
+        assertEquals(3, pages);
+    }
+
+    private void savePublicFundings(int count) {
+        for (int i = 1; i <= count; i++) {
+            User owner = userRepository.save(User.builder()
+                    .email("owner" + i + "@example.com")
+                    .password("password")
+                    .nickname("owner" + i)
+                    .isEmailNotificationAgreed(false)
+                    .userType(UserType.USER)
+                    .build());
+            Funding publicFunding = Funding.builder()
+                    .itemName("item")
+                    .title("title")
+                    .currentAmount(0)
+                    .targetAmount(10000)
+                    .publicFlag(true)
+                    .endDate(LocalDate.now().plusDays(7))
+                    .status(FundingStatus.ACTIVE)
+                    .build();
+            publicFunding.setUser(owner);
+            fundingRepository.save(publicFunding);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.giftforyoube.notification.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmitterRepositoryImplTest {
+
+    private EmitterRepositoryImpl emitterRepository;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = new EmitterRepositoryImpl();
+    }
+
+    @Test
+    @DisplayName("회원 ID가 다른 회원 ID의 접두사여도 emitter가 섞이지 않음")
+    void findAllEmitterByUserIdTest() {
+        // given : a@x.com 과 a@x.com.kr 의 emitter 저장
+        SseConnection connection = emitterRepository.save(new SseConnection("a@x.com", "a@x.com_1", new SseEmitter()));
+        emitterRepository.save(new SseConnection("a@x.com.kr", "a@x.com.kr_1", new SseEmitter()));
+
+        // when : a@x.com 의 emitter 조회
+        Map<String, SseConnection> connections = emitterRepository.findAllEmitterByUserId("a@x.com");
+
+        // then : a@x.com 의 emitter만 조회
+        assertEquals(Map.of("a@x.com_1", connection), connections);
+        assertEquals(2, emitterRepository.countConnections());
+    }
+
+    @Test
+    @DisplayName("emitter 삭제 시 해당 emitter만 삭제되고, 마지막 emitter가 삭제되면 true 반환")
+    void deleteByIdTest() {
+        // given : 한 회원의 emitter 2개와 접두사가 같은 다른 회원의 emitter 1개 저장
+        emitterRepository.save(new SseConnection("a@x.com", "a@x.com_1", new SseEmitter()));
+        emitterRepository.save(new SseConnection("a@x.com", "a@x.com_10", new SseEmitter()));
+        emitterRepository.save(new SseConnection("a@x.com.kr", "a@x.com.kr_1", new SseEmitter()));
+
+        // when : 첫 번째 emitter 삭제
+        boolean lastRemoved = emitterRepository.deleteById("a@x.com", "a@x.com_1");
+
+        // then : 같은 접두사를 가진 다른 emitter는 유지
+        assertFalse(lastRemoved);
+        assertEquals(1, emitterRepository.findAllEmitterByUserId("a@x.com").size());
+        assertTrue(emitterRepository.findAllEmitterByUserId("a@x.com").containsKey("a@x.com_10"));
+
+        // when : 마지막 emitter 삭제
+        lastRemoved = emitterRepository.deleteById("a@x.com", "a@x.com_10");
+
+        // then : 회원의 emitter가 모두 삭제되고, 다른 회원은 영향 없음
+        assertTrue(lastRemoved);
+        assertTrue(emitterRepository.findAllEmitterByUserId("a@x.com").isEmpty());
+        assertEquals(1, emitterRepository.findAllEmitterByUserId("a@x.com.kr").size());
+    }
+
+    @Test
+    @DisplayName("회원의 첫 emitter 저장과 마지막 emitter 삭제만 구분하여 반환")
+    void saveAndCheckFirstTest() {
+        // when : 한 회원의 emitter 2개 저장
+        boolean first = emitterRepository.saveAndCheckFirst(new SseConnection("a@x.com", "a@x.com_1", new SseEmitter()));
+        boolean second = emitterRepository.saveAndCheckFirst(new SseConnection("a@x.com", "a@x.com_2", new SseEmitter()));
+
+        // then : 첫 저장만 true
+        assertTrue(first);
+        assertFalse(second);
+        assertTrue(emitterRepository.existsByUserId("a@x.com"));
+
+        // when : 첫 번째 emitter 삭제 (재연결로 두 번째 emitter는 유지)
+        assertFalse(emitterRepository.deleteById("a@x.com", "a@x.com_1"));
+
+        // when : 마지막 emitter 삭제
+        assertTrue(emitterRepository.deleteById("a@x.com", "a@x.com_2"));
+        assertFalse(emitterRepository.existsByUserId("a@x.com"));
+
+        // then : 연결이 모두 닫힌 뒤의 저장은 다시 첫 연결
+        assertTrue(emitterRepository.saveAndCheckFirst(new SseConnection("a@x.com", "a@x.com_3", new SseEmitter())));
+        assertEquals(Set.of("a@x.com"), emitterRepository.findAllUserIds());
+    }
+}
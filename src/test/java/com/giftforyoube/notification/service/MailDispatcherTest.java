@@ -0,0 +1,121 @@
+package com.giftforyoube.notification.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MailDispatcherTest {
+
+    private static final int MESSAGE_COUNT = 500;
+    private static final int BATCH_SIZE = 50;
+    private static final int TARGET_MAILS_PER_SECOND = 100;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    // SMTP 발송 호출(한 번의 연결)마다 함께 보낸 메일 수 기록
+    private final Queue<Integer> sentBatchSizes = new ConcurrentLinkedQueue<>();
+    private JavaMailSenderImpl mailSender;
+    private ThreadPoolTaskExecutor mailExecutor;
+    private MailDispatcher mailDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        // 로컬 SMTP(GreenMail)로 발송하는 메일 발송 엔진 준비 (워커 2개, 배치 50건, 속도 제한 없음에 가깝게 설정)
+        mailSender = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                sentBatchSizes.add(mimeMessages.length);
+                super.send(mimeMessages);
+            }
+        };
+        mailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        mailExecutor = new ThreadPoolTaskExecutor();
+        mailExecutor.setCorePoolSize(2);
+        mailExecutor.setMaxPoolSize(2);
+        mailExecutor.setQueueCapacity(0);
+        mailExecutor.initialize();
+
+        mailDispatcher = new MailDispatcher(mailSender, mailExecutor, new SimpleMeterRegistry(),
+                1000, 2, BATCH_SIZE, 5000, 100_000, 3, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailDispatcher.stop();
+        mailExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("MailDispatcher 배치 발송 테스트 - 대기열에 추가된 메일이 모두 배치 단위로 발송")
+    void dispatchInBatchesTest() throws MessagingException {
+        // given : 워커 시작 전에 메일을 발송 대기열에 추가
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            mailDispatcher.submit(createMessage(i));
+        }
+
+        // when : 워커 시작
+        mailDispatcher.start();
+
+        // then : 모든 메일이 SMTP 서버에 도착했는지 확인
+        assertTrue(greenMail.waitForIncomingEmail(30_000, MESSAGE_COUNT), "모든 메일 수신 체크완료");
+        assertEquals(MESSAGE_COUNT, greenMail.getReceivedMessages().length, "수신 메일 수 체크완료");
+
+        // then : 메일마다 연결하지 않고 배치 크기만큼 묶어서 발송했는지 확인
+        // (두 워커가 마지막 남은 메일을 동시에 가져가면 마지막 배치 하나가 나뉠 수 있음)
+        assertEquals(MESSAGE_COUNT, sentBatchSizes.stream().mapToInt(Integer::intValue).sum(), "발송 메일 수 체크완료");
+        assertTrue(sentBatchSizes.stream().allMatch(size -> size <= BATCH_SIZE), "배치 크기 체크완료");
+        assertTrue(sentBatchSizes.size() <= MESSAGE_COUNT / BATCH_SIZE + 1, "SMTP 발송 횟수 체크완료");
+    }
+
+    // 실행 환경에 따라 결과가 달라지므로 RUN_BENCHMARKS=true 일 때만 실행
+    @Test
+    @EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+    @DisplayName("MailDispatcher 처리량 벤치마크 - 초당 발송 목표 확인")
+    void dispatchThroughputBenchmark() throws MessagingException {
+        // given : 워커 시작
+        mailDispatcher.start();
+        long startNanos = System.nanoTime();
+
+        // when : 메일을 발송 대기열에 추가
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            mailDispatcher.submit(createMessage(i));
+        }
+
+        // then : 모든 메일이 도착하고 초당 처리량 목표를 만족하는지 확인
+        assertTrue(greenMail.waitForIncomingEmail(30_000, MESSAGE_COUNT), "모든 메일 수신 체크완료");
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        double mailsPerSecond = MESSAGE_COUNT * 1000.0 / elapsedMillis;
+        assertTrue(mailsPerSecond >= TARGET_MAILS_PER_SECOND,
+                String.format("처리량 %.0f mails/sec 체크완료", mailsPerSecond));
+    }
+
+    private MimeMessage createMessage(int index) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setFrom("giftipie@example.com");
+        helper.setTo("user" + index + "@example.com");
+        helper.setSubject("[Giftipie] test " + index);
+        helper.setText("<p>test</p>", true);
+        return message;
+    }
+}
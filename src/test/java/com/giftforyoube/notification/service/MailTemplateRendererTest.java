@@ -0,0 +1,60 @@
+package com.giftforyoube.notification.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailTemplateRendererTest {
+
+    @Mock
+    private SpringTemplateEngine templateEngine;
+
+    private MailTemplateRenderer mailTemplateRenderer;
+
+    @BeforeEach
+    void setUp() {
+        mailTemplateRenderer = new MailTemplateRenderer(templateEngine, 100);
+    }
+
+    @Test
+    @DisplayName("render 테스트 - 같은 템플릿과 변수 조합은 한 번만 렌더링")
+    void renderCacheTest() {
+        // given : 템플릿 렌더링 결과 설정
+        when(templateEngine.process(eq("EmailTemplateDonation"), any(IContext.class))).thenReturn("<p>donation</p>");
+
+        // when : 같은 템플릿을 여러 번 렌더링
+        for (int i = 0; i < 10; i++) {
+            assertEquals("<p>donation</p>", mailTemplateRenderer.render("EmailTemplateDonation", Map.of()));
+        }
+
+        // then : 템플릿 엔진은 한 번만 호출되었는지 확인
+        verify(templateEngine, times(1)).process(eq("EmailTemplateDonation"), any(IContext.class));
+    }
+
+    @Test
+    @DisplayName("renderUncached 테스트 - 메일마다 다른 변수는 매번 렌더링")
+    void renderUncachedTest() {
+        // given : 템플릿 렌더링 결과 설정
+        when(templateEngine.process(eq("EmailTemplateSignup"), any(IContext.class))).thenReturn("<p>code</p>");
+
+        // when : 인증 코드만 다른 메일을 두 번 렌더링
+        mailTemplateRenderer.renderUncached("EmailTemplateSignup", Map.of("authenticationCode", 1234));
+        mailTemplateRenderer.renderUncached("EmailTemplateSignup", Map.of("authenticationCode", 5678));
+
+        // then : 매번 템플릿 엔진이 호출되었는지 확인
+        verify(templateEngine, times(2)).process(eq("EmailTemplateSignup"), any(IContext.class));
+    }
+}
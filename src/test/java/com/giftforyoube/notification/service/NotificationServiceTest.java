@@ -1,10 +1,13 @@
 package com.giftforyoube.notification.service;
 
+import com.giftforyoube.notification.dto.MessageResponseDto;
 import com.giftforyoube.notification.dto.NotificationResponseDto;
 import com.giftforyoube.notification.entity.Notification;
+import com.giftforyoube.notification.entity.NotificationOutbox;
 import com.giftforyoube.notification.entity.NotificationType;
-import com.giftforyoube.notification.repository.EmitterRepository;
+import com.giftforyoube.notification.repository.NotificationEventLog;
 import com.giftforyoube.notification.repository.NotificationRepository;
+import com.giftforyoube.notification.repository.SseConnection;
 import com.giftforyoube.user.entity.User;
 import jakarta.mail.MessagingException;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,28 +20,35 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
 
-    @Mock
-    private EmitterRepository emitterRepository;
-
     @Mock
     private NotificationRepository notificationRepository;
 
     @Mock
     private MailingService mailingService;
 
+    @Mock
+    private NotificationBroker notificationBroker;
+
+    @Mock
+    private NotificationEventLog notificationEventLog;
+
+    @Mock
+    private SseDeliveryEngine sseDeliveryEngine;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -78,8 +88,10 @@ class NotificationServiceTest {
         // given : Mock HttpServletResponse 준비
         MockHttpServletResponse response = new MockHttpServletResponse();
         String username = "testUser";
-        String lastEventId = "0";
-        when(emitterRepository.save(anyString(), any(SseEmitter.class))).thenAnswer(i -> i.getArguments()[1]);
+        String lastEventId = "0-0";
+        when(sseDeliveryEngine.connect(anyString(), anyString(), any(SseEmitter.class)))
+                .thenAnswer(i -> new SseConnection(i.getArgument(0), i.getArgument(1), i.getArgument(2)));
+        when(notificationEventLog.findLatestEventId(username)).thenReturn("0-0");
 
         // when : sseSubscribe 메서드 실행
         SseEmitter emitter = notificationService.sseSubscribe(username, lastEventId, response);
@@ -95,7 +107,6 @@ class NotificationServiceTest {
     void sendTest() throws MessagingException {
         // given : 알림 객체를 DB에 저장하고, 이메일 전송을 임의로 설정
         when(notificationRepository.save(any(Notification.class))).thenReturn(notification);
-        when(emitterRepository.findAllEmitterStartWithByUserId(anyString())).thenReturn(Collections.emptyMap());
         doNothing().when(mailingService).sendNotificationEmail(any(Notification.class));
 
         // when : send 메서드 실행
@@ -105,8 +116,30 @@ class NotificationServiceTest {
         verify(notificationRepository, times(1)).save(any(Notification.class));
         // then : 이메일이 전송되었는지 확인
         verify(mailingService, times(1)).sendNotificationEmail(any(Notification.class));
-        // then : SSE Emitter 저장소가 조회되었는지 확인
-        verify(emitterRepository, times(1)).findAllEmitterStartWithByUserId(receiver.getEmail());
+        // then : 수신자의 연결을 가진 인스턴스로 알림이 발행되었는지 확인
+        verify(notificationBroker, times(1)).publish(eq(receiver.getEmail()), any(MessageResponseDto.class));
+    }
+
+    @Test
+    @DisplayName("sendDonationDigest 테스트 - 후원 알림 일괄 저장, 묶음 알림 1건 전송, 메일 1통 발송")
+    void sendDonationDigestTest() throws MessagingException {
+        // given : 같은 수신자에게 쌓인 후원 알림 3건
+        List<NotificationOutbox> donations = List.of(
+                NotificationOutbox.builder().receiverId(1L).notificationType(NotificationType.DONATION).content("donation 1").url(url).build(),
+                NotificationOutbox.builder().receiverId(1L).notificationType(NotificationType.DONATION).content("donation 2").url(url).build(),
+                NotificationOutbox.builder().receiverId(1L).notificationType(NotificationType.DONATION).content("donation 3").url(url).build());
+        when(notificationRepository.saveAll(anyList())).then(returnsFirstArg());
+        doNothing().when(mailingService).sendNotificationEmail(any(Notification.class));
+
+        // when : sendDonationDigest 메서드 실행
+        notificationService.sendDonationDigest(receiver, donations);
+
+        // then : 후원별 알림이 한 번의 saveAll로 저장되었는지 확인
+        verify(notificationRepository, times(1)).saveAll(anyList());
+        verify(notificationRepository, never()).save(any(Notification.class));
+        // then : SSE 이벤트와 이메일은 묶음 알림 한 건씩만 발송되었는지 확인
+        verify(notificationBroker, times(1)).publish(eq(receiver.getEmail()), any(MessageResponseDto.class));
+        verify(mailingService, times(1)).sendNotificationEmail(any(Notification.class));
     }
 
     @Test
@@ -0,0 +1,77 @@
+package com.giftforyoube.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.giftforyoube.notification.repository.EmitterRepositoryImpl;
+import com.giftforyoube.notification.repository.SseConnection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SseDeliveryEngineTest {
+
+    @Mock
+    private SsePresence ssePresence;
+
+    // 전송 작업을 실행하지 않아 이벤트가 대기열에 남도록 함
+    @Mock
+    private ThreadPoolTaskExecutor deliveryExecutor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseDeliveryEngine sseDeliveryEngine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sseDeliveryEngine = new SseDeliveryEngine(new EmitterRepositoryImpl(), ssePresence, new ObjectMapper(),
+                deliveryExecutor, meterRegistry, 100, 1024 * 1024, 10_000, 30_000, 1_000);
+    }
+
+    @Test
+    @DisplayName("전송 대기열 게이지 테스트 - 전체/연결별 최대 바이트 수와 이벤트 수 집계")
+    void queuedGaugeTest() {
+        // given : 두 회원의 SSE 연결
+        SseConnection slowConnection = sseDeliveryEngine.connect("a@x.com", "a@x.com_1", new SseEmitter());
+        SseConnection connection = sseDeliveryEngine.connect("b@x.com", "b@x.com_1", new SseEmitter());
+
+        // when : 한 연결에는 10바이트 이벤트 3건, 다른 연결에는 5바이트 이벤트 1건이 쌓임
+        for (int i = 0; i < 3; i++) {
+            sseDeliveryEngine.enqueue(slowConnection, "a" + i, "\"12345678\"");
+        }
+        sseDeliveryEngine.enqueue(connection, "b0", "\"123\"");
+
+        // then : 대기열 합계와 가장 많이 쌓인 연결의 값이 게이지로 노출
+        assertEquals(35, meterRegistry.get("notification.sse.queued.bytes").gauge().value());
+        assertEquals(30, meterRegistry.get("notification.sse.queued.bytes.max").gauge().value());
+        assertEquals(4, meterRegistry.get("notification.sse.queued.events").gauge().value());
+        assertEquals(2, meterRegistry.get("notification.sse.connections").gauge().value());
+    }
+
+    @Test
+    @DisplayName("접속 인스턴스 등록은 회원의 첫 연결에서만 실행되고, 등록 실패가 연결을 막지 않음")
+    void registerPresenceOnFirstConnectionTest() {
+        // given : Redis 장애로 접속 인스턴스 등록이 실패
+        doThrow(new RuntimeException("redis down")).when(ssePresence).register("a@x.com");
+
+        // when : 같은 회원이 두 번 연결
+        SseConnection first = sseDeliveryEngine.connect("a@x.com", "a@x.com_1", new SseEmitter());
+        SseConnection second = sseDeliveryEngine.connect("a@x.com", "a@x.com_2", new SseEmitter());
+
+        // then : 두 연결 모두 등록되고, 접속 인스턴스 등록은 첫 연결에서 한 번만 시도
+        assertNotNull(first);
+        assertNotNull(second);
+        assertEquals(2, meterRegistry.get("notification.sse.connections").gauge().value());
+        verify(ssePresence, times(1)).register("a@x.com");
+    }
+}
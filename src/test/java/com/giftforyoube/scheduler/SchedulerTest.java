@@ -0,0 +1,164 @@
+package com.giftforyoube.scheduler;
+
+import com.giftforyoube.funding.entity.Funding;
+import com.giftforyoube.funding.entity.FundingStatus;
+import com.giftforyoube.funding.repository.FundingRepository;
+import com.giftforyoube.funding.service.CacheService;
+import com.giftforyoube.notification.entity.NotificationType;
+import com.giftforyoube.notification.service.NotificationOutboxService;
+import com.giftforyoube.user.entity.User;
+import com.giftforyoube.user.entity.UserType;
+import com.giftforyoube.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "scheduler.auto-finish.chunk-size=" + SchedulerTest.CHUNK_SIZE
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(Scheduler.class)
+class SchedulerTest {
+
+    static final int CHUNK_SIZE = 20;
+    private static final int EXPIRED_FUNDING_COUNT = 60;
+
+    @Autowired
+    private Scheduler scheduler;
+
+    // 청크 처리 실패 상황을 만들기 위해 실제 저장소를 감싼 spy 사용
+    @SpyBean
+    private FundingRepository fundingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private CacheService cacheService;
+
+    // 아웃박스 기록은 NotificationOutboxService의 책임이므로 호출 여부만 검증하고, 스케줄러가 실행한 쿼리만 집계
+    @MockBean
+    private NotificationOutboxService notificationOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        // 마감일이 지난 진행중 펀딩 준비 - 펀딩마다 다른 회원이 개설, 절반만 이메일 알림 수신 동의
+        for (int i = 0; i < EXPIRED_FUNDING_COUNT; i++) {
+            User owner = userRepository.save(User.builder()
+                    .email("owner" + i + "@example.com")
+                    .password("password")
+                    .nickname("owner" + i)
+                    .isEmailNotificationAgreed(i % 2 == 0)
+                    .userType(UserType.USER)
+                    .build());
+
+            Funding funding = Funding.builder()
+                    .itemName("item")
+                    .title("title")
+                    .currentAmount(0)
+                    .targetAmount(10000)
+                    .publicFlag(true)
+                    .endDate(LocalDate.now().minusDays(1))
+                    .status(FundingStatus.ACTIVE)
+                    .build();
+            funding.setUser(owner);
+            fundingRepository.save(funding);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        fundingRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("autoFinishFundings 테스트 - 펀딩 수와 관계없이 청크마다 같은 수의 쿼리만 실행")
+    void autoFinishFundingsQueryCountTest() {
+        // given : 픽스처 저장 이후 Hibernate 통계 초기화
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when : 마감일 종료 작업 실행
+        scheduler.autoFinishFundings();
+
+        // then : 청크마다 ID 잠금 조회, 일괄 UPDATE, 수신자 조회 3개 쿼리 + 마지막 빈 청크 조회 1개만 실행
+        int chunks = EXPIRED_FUNDING_COUNT / CHUNK_SIZE;
+        assertEquals(chunks * 3L + 1, statistics.getPrepareStatementCount(), "청크당 쿼리 수 체크완료");
+        // then : User, Funding 엔티티를 로딩하지 않았는지 확인 (N+1 없음)
+        assertEquals(0, statistics.getEntityLoadCount(), "엔티티 로딩 없음 체크완료");
+
+        // then : 모든 펀딩이 종료되고, 수신 동의한 회원에게만 알림이 기록되었는지 확인
+        assertTrue(fundingRepository.findAll().stream().allMatch(f -> f.getStatus() == FundingStatus.FINISHED));
+        verify(notificationOutboxService, times(EXPIRED_FUNDING_COUNT / 2))
+                .enqueue(anyLong(), eq(NotificationType.FUNDING_TIME_OUT), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("autoFinishFundings 테스트 - 종료 수가 어긋난 청크는 건너뛰고 다음 청크를 계속 처리")
+    void autoFinishFundingsSkipsMismatchedChunkTest() {
+        // given : 첫 번째 청크의 일괄 UPDATE만 잠금 조회한 수보다 적게 종료
+        doReturn(0).doCallRealMethod().when(fundingRepository).finishAllActive(anyList());
+
+        // when : 마감일 종료 작업 실행
+        scheduler.autoFinishFundings();
+
+        // then : 첫 번째 청크는 롤백되어 진행중으로 남고, 나머지 청크는 종료
+        List<Funding> fundings = fundingRepository.findAll();
+        assertEquals(CHUNK_SIZE, fundings.stream().filter(f -> f.getStatus() == FundingStatus.ACTIVE).count());
+        assertEquals(EXPIRED_FUNDING_COUNT - CHUNK_SIZE,
+                fundings.stream().filter(f -> f.getStatus() == FundingStatus.FINISHED).count());
+        // then : 건너뛴 청크의 알림은 기록되지 않고, 종료된 펀딩이 있으므로 캐시 삭제
+        verify(notificationOutboxService, times((EXPIRED_FUNDING_COUNT - CHUNK_SIZE) / 2))
+                .enqueue(anyLong(), eq(NotificationType.FUNDING_TIME_OUT), anyString(), anyString());
+        verify(cacheService, times(1)).clearFundingCaches();
+    }
+
+    @Test
+    @DisplayName("autoFinishFundings 테스트 - 중간 청크에서 예외가 발생해도 커밋된 청크의 캐시는 삭제")
+    void autoFinishFundingsClearsCachesOnFailureTest() {
+        // given : 두 번째 청크의 수신자 조회에서 예외 발생
+        doCallRealMethod().doThrow(new IllegalStateException("db down"))
+                .when(fundingRepository).findReceiversByFundingIds(anyList());
+
+        // when : 마감일 종료 작업 실행
+        assertThrows(IllegalStateException.class, () -> scheduler.autoFinishFundings());
+
+        // then : 첫 번째 청크만 커밋되고, 캐시는 삭제
+        assertEquals(CHUNK_SIZE, fundingRepository.findAll().stream()
+                .filter(f -> f.getStatus() == FundingStatus.FINISHED).count());
+        verify(cacheService, times(1)).clearFundingCaches();
+    }
+}